@@ -20,6 +20,7 @@ import java.util.Set;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
 
 /**
  * The (3rd?) iteration of the data slot.
@@ -27,13 +28,19 @@ import java.util.function.Supplier;
  * This type declares how each type is serialized.
  * This type is then used to create an instance of a {@link NetworkDataSlot} which performs change detection.
  * The slot does not contain the data, instead using method references to get and set the value, making it incredibly versatile.
+ * Values that are expensive to hash can instead provide a version, which the slot compares alongside the value's identity.
  * @param <T> The type held by the slot.
  */
 public final class NetworkDataSlot<T> {
     private final Type<T> type;
     private final Supplier<T> getter;
     private final Consumer<T> setter;
+    @Nullable
+    private final ToLongFunction<T> versionGetter;
     private int lastHash;
+    private long lastVersion;
+    @Nullable
+    private T lastValue;
 
     public static CodecType<String> STRING = new CodecType<>(Codec.STRING, ByteBufCodecs.STRING_UTF8.cast());
     public static CodecType<Boolean> BOOL = new CodecType<>(Codec.BOOL, ByteBufCodecs.BOOL.cast());
@@ -48,9 +55,23 @@ public final class NetworkDataSlot<T> {
         Supplier<T> getter,
         Consumer<T> setter) {
 
+        this(type, getter, setter, null);
+    }
+
+    /**
+     * @param versionGetter If present, used for change detection instead of {@link Type#hash}.
+     *                      It must return a different version whenever the value changes.
+     */
+    public NetworkDataSlot(
+        Type<T> type,
+        Supplier<T> getter,
+        Consumer<T> setter,
+        @Nullable ToLongFunction<T> versionGetter) {
+
         this.type = type;
         this.getter = getter;
         this.setter = setter;
+        this.versionGetter = versionGetter;
     }
 
     @Nullable
@@ -60,7 +81,7 @@ public final class NetworkDataSlot<T> {
         }
 
         T value = getter.get();
-        lastHash = type.hash(value);
+        markSynced(value);
         return type.save(lookupProvider, value);
     }
 
@@ -70,7 +91,7 @@ public final class NetworkDataSlot<T> {
 
     public void write(RegistryFriendlyByteBuf buf) {
         T value = getter.get();
-        lastHash = type.hash(value);
+        markSynced(value);
         type.write(buf, value);
     }
 
@@ -84,10 +105,24 @@ public final class NetworkDataSlot<T> {
 
     public boolean doesNeedUpdate() {
         T value = getter.get();
+        if (versionGetter != null) {
+            // A replaced value always needs an update, regardless of its version.
+            return value != lastValue || versionGetter.applyAsLong(value) != lastVersion;
+        }
+
         int hash = type.hash(value);
         return lastHash != hash;
     }
 
+    private void markSynced(T value) {
+        if (versionGetter != null) {
+            lastValue = value;
+            lastVersion = versionGetter.applyAsLong(value);
+        } else {
+            lastHash = type.hash(value);
+        }
+    }
+
     // This is designed to allow custom network data slot behaviours.
     public interface Type<T> {
         /***
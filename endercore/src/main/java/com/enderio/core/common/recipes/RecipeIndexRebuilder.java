@@ -0,0 +1,103 @@
+package com.enderio.core.common.recipes;
+
+import net.minecraft.Util;
+import net.minecraft.world.item.crafting.RecipeManager;
+import net.neoforged.neoforge.event.AddReloadListenerEvent;
+import net.neoforged.neoforge.event.TagsUpdatedEvent;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Builds lookup indexes over the loaded recipes on the background executor, all in parallel, then publishes them together.
+ * Ingredients resolve through tags, and the server only binds newly loaded tags once every reload listener has finished,
+ * so server indexes are built from {@link TagsUpdatedEvent} rather than from a reload listener.
+ * Forward {@link AddReloadListenerEvent} and {@link TagsUpdatedEvent} to {@link #onAddReloadListeners} and {@link #onTagsUpdated}.
+ */
+public class RecipeIndexRebuilder {
+
+    private final List<IndexTask<?>> tasks = new ArrayList<>();
+
+    // Bumped by every rebuild, so a slow rebuild can't publish over the result of a newer one.
+    private final AtomicInteger rebuildCounter = new AtomicInteger();
+
+    @Nullable
+    private volatile RecipeManager serverRecipeManager;
+
+    /**
+     * @param builder builds the index, possibly off the game thread. It must only read the recipe manager.
+     * @param publisher swaps the built index in. It may be called from any thread.
+     */
+    public <T> RecipeIndexRebuilder add(Function<RecipeManager, T> builder, Consumer<T> publisher) {
+        tasks.add(new IndexTask<>(builder, publisher));
+        return this;
+    }
+
+    /**
+     * Remember the recipe manager being loaded, its recipes are indexed once the matching tags are bound.
+     */
+    public void onAddReloadListeners(AddReloadListenerEvent event) {
+        serverRecipeManager = event.getServerResources().getRecipeManager();
+    }
+
+    public void onTagsUpdated(TagsUpdatedEvent event) {
+        RecipeManager recipeManager = serverRecipeManager;
+        if (event.getUpdateCause() == TagsUpdatedEvent.UpdateCause.SERVER_DATA_LOAD && recipeManager != null) {
+            rebuildAsync(recipeManager);
+        }
+    }
+
+    /**
+     * Build every index on the background executor, then publish them all at once.
+     */
+    public CompletableFuture<Void> rebuildAsync(RecipeManager recipeManager) {
+        int rebuild = rebuildCounter.incrementAndGet();
+
+        List<CompletableFuture<Runnable>> builds = new ArrayList<>(tasks.size());
+        for (IndexTask<?> task : tasks) {
+            builds.add(CompletableFuture.supplyAsync(() -> task.build(recipeManager), Util.backgroundExecutor()));
+        }
+
+        return CompletableFuture.allOf(builds.toArray(CompletableFuture[]::new))
+            .thenRun(() -> {
+                synchronized (this) {
+                    if (rebuildCounter.get() == rebuild) {
+                        builds.forEach(build -> build.join().run());
+                    }
+                }
+            });
+    }
+
+    /**
+     * Build and publish every index on the calling thread.
+     */
+    public void rebuild(RecipeManager recipeManager) {
+        int rebuild = rebuildCounter.incrementAndGet();
+
+        List<Runnable> publishers = new ArrayList<>(tasks.size());
+        for (IndexTask<?> task : tasks) {
+            publishers.add(task.build(recipeManager));
+        }
+
+        synchronized (this) {
+            if (rebuildCounter.get() == rebuild) {
+                publishers.forEach(Runnable::run);
+            }
+        }
+    }
+
+    private record IndexTask<T>(Function<RecipeManager, T> builder, Consumer<T> publisher) {
+        /**
+         * @return the action that publishes the built index.
+         */
+        Runnable build(RecipeManager recipeManager) {
+            T index = builder.apply(recipeManager);
+            return () -> publisher.accept(index);
+        }
+    }
+}
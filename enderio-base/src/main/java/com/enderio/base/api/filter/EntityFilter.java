@@ -8,4 +8,9 @@ import java.util.function.Predicate;
 public interface EntityFilter extends ResourceFilter, Predicate<Entity> {
 
     boolean test(EntityType<?> entity);
+
+    @Override
+    default EntityFilter compile() {
+        return this;
+    }
 }
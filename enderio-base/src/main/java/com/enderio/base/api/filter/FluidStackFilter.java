@@ -5,4 +5,9 @@ import net.neoforged.neoforge.fluids.FluidStack;
 import java.util.function.Predicate;
 
 public interface FluidStackFilter extends ResourceFilter, Predicate<FluidStack> {
+
+    @Override
+    default FluidStackFilter compile() {
+        return this;
+    }
 }
@@ -5,4 +5,9 @@ import net.minecraft.world.item.ItemStack;
 import java.util.function.Predicate;
 
 public interface ItemStackFilter extends ResourceFilter, Predicate<ItemStack> {
+
+    @Override
+    default ItemStackFilter compile() {
+        return this;
+    }
 }
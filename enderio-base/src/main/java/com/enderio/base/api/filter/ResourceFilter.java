@@ -1,4 +1,12 @@
 package com.enderio.base.api.filter;
 
 public interface ResourceFilter {
+
+    /**
+     * Get an immutable form of this filter that is cheaper to test repeatedly, such as once per transfer.
+     * It does not follow later changes to the filter, so it should be fetched again rather than stored.
+     */
+    default ResourceFilter compile() {
+        return this;
+    }
 }
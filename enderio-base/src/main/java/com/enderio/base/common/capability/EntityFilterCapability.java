@@ -2,6 +2,9 @@ package com.enderio.base.common.capability;
 
 import com.enderio.base.api.attachment.StoredEntityData;
 import com.enderio.base.api.filter.EntityFilter;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
 import com.mojang.serialization.Codec;
 import com.mojang.serialization.codecs.RecordCodecBuilder;
 import net.minecraft.core.NonNullList;
@@ -19,16 +22,23 @@ import net.neoforged.neoforge.fluids.FluidStack;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
 import java.util.OptionalInt;
+import java.util.Set;
 import java.util.function.Supplier;
 
 public class EntityFilterCapability implements IFilterCapability<StoredEntityData>, EntityFilter {
 
     public static final Component EMPTY = new Component(List.of(), false, false);
 
+    // Components are immutable and a new one is set on every change, so compiled filters can be keyed by identity.
+    private static final LoadingCache<Component, Compiled> COMPILED = CacheBuilder.newBuilder()
+        .weakKeys()
+        .build(CacheLoader.from(Compiled::new));
+
     protected final Supplier<DataComponentType<Component>> componentType;
     private final ItemStack container;
 
@@ -96,30 +106,58 @@ public class EntityFilterCapability implements IFilterCapability<StoredEntityDat
     }
 
     @Override
-    public boolean test(Entity entity) {
-        boolean typematch = test(entity.getType());
-        if (isNbt()) {
-            for (StoredEntityData entry : getEntries()) {
-                CompoundTag tag = entity.serializeNBT(entity.level().registryAccess());
-                boolean test = tag.equals(entry.getEntityTag());
-                if (test) {
-                    return !isInvert() && typematch;
-                }
-            }
-        }
+    public EntityFilter compile() {
+        return COMPILED.getUnchecked(getComponent());
+    }
 
-        return typematch;
+    @Override
+    public boolean test(Entity entity) {
+        return compile().test(entity);
     }
 
     @Override
     public boolean test(EntityType<?> entity) {
-        for (StoredEntityData entry : getEntries()) {
-            ResourceLocation key = BuiltInRegistries.ENTITY_TYPE.getKey(entity);
-            if (entry.hasEntity() && entry.entityType().get().equals(key)) {
-                return !isInvert();
+        return compile().test(entity);
+    }
+
+    /**
+     * Immutable form of a filter component, matching entity types with a single hash lookup rather than comparing every entry.
+     */
+    private static final class Compiled implements EntityFilter {
+        private final Set<ResourceLocation> types = new HashSet<>();
+        private final List<CompoundTag> entityTags = new ArrayList<>();
+        private final boolean nbt;
+        private final boolean invert;
+
+        private Compiled(Component component) {
+            this.nbt = component.nbt();
+            this.invert = component.invert();
+
+            for (StoredEntityData entry : component.entities()) {
+                entry.entityType().ifPresent(types::add);
+                if (nbt) {
+                    entityTags.add(entry.getEntityTag().copy());
+                }
             }
         }
-        return isInvert();
+
+        @Override
+        public boolean test(Entity entity) {
+            boolean typematch = test(entity.getType());
+            if (nbt && !entityTags.isEmpty()) {
+                CompoundTag tag = entity.serializeNBT(entity.level().registryAccess());
+                if (entityTags.contains(tag)) {
+                    return !invert && typematch;
+                }
+            }
+
+            return typematch;
+        }
+
+        @Override
+        public boolean test(EntityType<?> entity) {
+            return types.contains(BuiltInRegistries.ENTITY_TYPE.getKey(entity)) != invert;
+        }
     }
 
     public record Component(List<StoredEntityData> entities, boolean nbt, boolean invert) {
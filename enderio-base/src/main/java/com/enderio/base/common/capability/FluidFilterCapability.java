@@ -2,28 +2,42 @@ package com.enderio.base.common.capability;
 
 import com.enderio.base.api.filter.FluidStackFilter;
 import com.enderio.core.common.serialization.OrderedListCodec;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
 import com.mojang.serialization.Codec;
 import com.mojang.serialization.codecs.RecordCodecBuilder;
+import it.unimi.dsi.fastutil.Hash;
+import it.unimi.dsi.fastutil.objects.ObjectOpenCustomHashSet;
+import it.unimi.dsi.fastutil.objects.ReferenceOpenHashSet;
 import net.minecraft.core.NonNullList;
 import net.minecraft.core.component.DataComponentType;
 import net.minecraft.network.RegistryFriendlyByteBuf;
 import net.minecraft.network.codec.ByteBufCodecs;
 import net.minecraft.network.codec.StreamCodec;
 import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.level.material.Fluid;
 import net.neoforged.neoforge.fluids.FluidStack;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
 import java.util.OptionalInt;
+import java.util.Set;
 import java.util.function.Supplier;
 
 public class FluidFilterCapability implements IFilterCapability<FluidStack>, FluidStackFilter {
 
     public static final Component EMPTY = new Component(0, List.of(), false, false);
 
+    // Components are immutable and a new one is set on every change, so compiled filters can be keyed by identity.
+    private static final LoadingCache<Component, Compiled> COMPILED = CacheBuilder.newBuilder()
+        .weakKeys()
+        .build(CacheLoader.from(Compiled::new));
+
     protected final Supplier<DataComponentType<Component>> componentType;
     private final ItemStack container;
 
@@ -95,22 +109,56 @@ public class FluidFilterCapability implements IFilterCapability<FluidStack>, Flu
         container.set(componentType, this.getComponent().withFluid(index, entry));
     }
 
+    @Override
+    public FluidStackFilter compile() {
+        return COMPILED.getUnchecked(getComponent());
+    }
+
     @Override
     public boolean test(FluidStack stack) {
-        List<FluidStack> entries = getEntries();
+        return compile().test(stack);
+    }
 
-        for (int i = 0; i < entries.size() && i < size(); i++) {
-            var testStack = entries.get(i);
-            boolean isMatch = isNbt()
-                ? FluidStack.isSameFluidSameComponents(testStack, stack)
-                : testStack.is(stack.getFluid());
+    /**
+     * Immutable form of a filter component, matching fluids with a single hash lookup rather than comparing every entry.
+     */
+    private static final class Compiled implements FluidStackFilter {
+        private static final Hash.Strategy<FluidStack> FLUID_AND_COMPONENTS = new Hash.Strategy<>() {
+            @Override
+            public int hashCode(@Nullable FluidStack stack) {
+                return FluidStack.hashFluidAndComponents(stack);
+            }
 
-            if (isMatch) {
-                return !isInvert();
+            @Override
+            public boolean equals(@Nullable FluidStack a, @Nullable FluidStack b) {
+                return a == b || a != null && b != null && FluidStack.isSameFluidSameComponents(a, b);
+            }
+        };
+
+        private final Set<Fluid> fluids = new ReferenceOpenHashSet<>();
+        private final Set<FluidStack> stacks = new ObjectOpenCustomHashSet<>(FLUID_AND_COMPONENTS);
+        private final boolean nbt;
+        private final boolean invert;
+
+        private Compiled(Component component) {
+            this.nbt = component.nbt();
+            this.invert = component.invert();
+
+            List<FluidStack> entries = component.fluids();
+            for (int i = 0; i < entries.size() && i < component.size(); i++) {
+                if (nbt) {
+                    stacks.add(entries.get(i).copy());
+                } else {
+                    fluids.add(entries.get(i).getFluid());
+                }
             }
         }
 
-        return isInvert();
+        @Override
+        public boolean test(FluidStack stack) {
+            boolean isMatch = nbt ? stacks.contains(stack) : fluids.contains(stack.getFluid());
+            return isMatch != invert;
+        }
     }
 
     /**
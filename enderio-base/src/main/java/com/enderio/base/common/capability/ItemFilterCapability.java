@@ -2,25 +2,38 @@ package com.enderio.base.common.capability;
 
 import com.enderio.base.api.filter.ItemStackFilter;
 import com.enderio.core.common.serialization.OrderedListCodec;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
 import com.mojang.serialization.Codec;
 import com.mojang.serialization.codecs.RecordCodecBuilder;
+import it.unimi.dsi.fastutil.objects.ObjectOpenCustomHashSet;
+import it.unimi.dsi.fastutil.objects.ReferenceOpenHashSet;
 import net.minecraft.core.NonNullList;
 import net.minecraft.core.component.DataComponentType;
 import net.minecraft.network.RegistryFriendlyByteBuf;
 import net.minecraft.network.codec.ByteBufCodecs;
 import net.minecraft.network.codec.StreamCodec;
+import net.minecraft.world.item.Item;
 import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.ItemStackLinkedSet;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.OptionalInt;
+import java.util.Set;
 import java.util.function.Supplier;
 
 public class ItemFilterCapability implements IFilterCapability<ItemStack>, ItemStackFilter {
     public static final Component EMPTY = new Component(List.of(), false, false);
 
+    // Components are immutable and a new one is set on every change, so compiled filters can be keyed by identity.
+    private static final LoadingCache<Component, Compiled> COMPILED = CacheBuilder.newBuilder()
+        .weakKeys()
+        .build(CacheLoader.from(Compiled::new));
+
     protected final Supplier<DataComponentType<Component>> componentType;
     private final ItemStack container;
 
@@ -88,20 +101,43 @@ public class ItemFilterCapability implements IFilterCapability<ItemStack>, ItemS
     }
 
     @Override
-    public boolean test(ItemStack stack) {
-        List<ItemStack> entries = getEntries();
+    public ItemStackFilter compile() {
+        return COMPILED.getUnchecked(getComponent());
+    }
 
-        for (int i = 0; i < entries.size() && i < size(); i++) {
-            var testStack = entries.get(i);
-            boolean isMatch = isNbt()
-                ? ItemStack.isSameItemSameComponents(testStack, stack)
-                : ItemStack.isSameItem(testStack, stack);
+    @Override
+    public boolean test(ItemStack stack) {
+        return compile().test(stack);
+    }
 
-            if (isMatch) {
-                return !isInvert();
+    /**
+     * Immutable form of a filter component, matching items with a single hash lookup rather than comparing every entry.
+     */
+    private static final class Compiled implements ItemStackFilter {
+        private final Set<Item> items = new ReferenceOpenHashSet<>();
+        private final Set<ItemStack> stacks = new ObjectOpenCustomHashSet<>(ItemStackLinkedSet.TYPE_AND_TAG);
+        private final boolean nbt;
+        private final boolean invert;
+
+        private Compiled(Component component) {
+            this.nbt = component.nbt();
+            this.invert = component.invert();
+
+            List<ItemStack> entries = component.items();
+            for (int i = 0; i < entries.size() && i < component.size(); i++) {
+                if (nbt) {
+                    stacks.add(entries.get(i).copy());
+                } else {
+                    items.add(entries.get(i).getItem());
+                }
             }
         }
-        return isInvert();
+
+        @Override
+        public boolean test(ItemStack stack) {
+            boolean isMatch = nbt ? stacks.contains(stack) : items.contains(stack.getItem());
+            return isMatch != invert;
+        }
     }
 
     public record Component(int size, List<ItemStack> items, boolean nbt, boolean invert) {
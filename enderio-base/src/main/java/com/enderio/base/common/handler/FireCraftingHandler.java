@@ -4,6 +4,7 @@ import com.enderio.EnderIOBase;
 import com.enderio.base.common.config.BaseConfig;
 import com.enderio.base.common.init.EIORecipes;
 import com.enderio.base.common.recipe.FireCraftingRecipe;
+import com.enderio.core.common.recipes.RecipeIndexRebuilder;
 import it.unimi.dsi.fastutil.objects.ObjectArrayList;
 import net.minecraft.core.BlockPos;
 import net.minecraft.resources.ResourceKey;
@@ -24,9 +25,11 @@ import net.minecraft.world.level.storage.loot.parameters.LootContextParamSets;
 import net.minecraft.world.level.storage.loot.parameters.LootContextParams;
 import net.neoforged.bus.api.SubscribeEvent;
 import net.neoforged.fml.common.EventBusSubscriber;
-import net.neoforged.neoforge.client.event.RecipesUpdatedEvent;
+import net.neoforged.neoforge.event.AddReloadListenerEvent;
+import net.neoforged.neoforge.event.TagsUpdatedEvent;
 import net.neoforged.neoforge.event.level.BlockEvent;
 import net.neoforged.neoforge.event.tick.LevelTickEvent;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -41,14 +44,23 @@ public class FireCraftingHandler {
     private static final Random RANDOM = new Random();
     private static final ConcurrentMap<FireIndex, Long> FIRE_TRACKER = new ConcurrentHashMap<>();
 
-    private static List<RecipeHolder<FireCraftingRecipe>> cachedRecipes;
-    private static boolean recipesCached = false;
+    // Replaced whenever recipes reload, built off the server thread.
+    @Nullable
+    private static volatile List<RecipeHolder<FireCraftingRecipe>> cachedRecipes;
 
     private record FireIndex(BlockPos pos, ResourceKey<Level> dimension) {}
 
+    private static final RecipeIndexRebuilder RECIPE_INDEX = new RecipeIndexRebuilder()
+        .add(manager -> List.copyOf(manager.getAllRecipesFor(EIORecipes.FIRE_CRAFTING.type().get())), recipes -> cachedRecipes = recipes);
+
+    @SubscribeEvent
+    public static void registerReloadListener(AddReloadListenerEvent event) {
+        RECIPE_INDEX.onAddReloadListeners(event);
+    }
+
     @SubscribeEvent
-    public static void onRecipeUpdate(RecipesUpdatedEvent event) {
-        recipesCached = false;
+    public static void onTagsUpdated(TagsUpdatedEvent event) {
+        RECIPE_INDEX.onTagsUpdated(event);
     }
 
     @SubscribeEvent
@@ -68,14 +80,15 @@ public class FireCraftingHandler {
             Block baseBlock = level.getBlockState(pos.below()).getBlock();
 
             // Cache recipes
-            if (!recipesCached) {
-                cachedRecipes = level.getRecipeManager().getAllRecipesFor(EIORecipes.FIRE_CRAFTING.type().get());
-                recipesCached = false;
+            List<RecipeHolder<FireCraftingRecipe>> recipes = cachedRecipes;
+            if (recipes == null) {
+                recipes = List.copyOf(level.getRecipeManager().getAllRecipesFor(EIORecipes.FIRE_CRAFTING.type().get()));
+                cachedRecipes = recipes;
             }
 
             // Search for this recipe.
             FireCraftingRecipe matchingRecipe = null;
-            for (var recipeHolder : cachedRecipes) {
+            for (var recipeHolder : recipes) {
                 var recipe = recipeHolder.value();
                 if (recipe.isBaseValid(baseBlock) && recipe.isDimensionValid(level.dimension())) {
                     matchingRecipe = recipe;
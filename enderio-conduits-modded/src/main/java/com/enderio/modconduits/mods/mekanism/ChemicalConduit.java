@@ -102,8 +102,10 @@ public record ChemicalConduit(
 //                //EnderIO.LOGGER.warn("incompatible chemical conduits merged");
 //            }
             otherData.setlockedChemical(selfData.lockedChemical);
+            otherNode.markDataChanged();
         } else if (!otherData.lockedChemical.isEmpty()) {
             selfData.setlockedChemical(otherData.lockedChemical);
+            selfNode.markDataChanged();
         }
     }
 
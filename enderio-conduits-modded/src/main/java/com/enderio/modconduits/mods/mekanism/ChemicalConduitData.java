@@ -10,6 +10,7 @@ import net.minecraft.network.RegistryFriendlyByteBuf;
 import net.minecraft.network.codec.ByteBufCodecs;
 import net.minecraft.network.codec.StreamCodec;
 
+import java.util.Objects;
 import java.util.Optional;
 
 public class ChemicalConduitData implements ConduitData<ChemicalConduitData> {
@@ -60,4 +61,9 @@ public class ChemicalConduitData implements ConduitData<ChemicalConduitData> {
     public void setlockedChemical(ChemicalStack lockedChemical) {
         this.lockedChemical = lockedChemical;
     }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(shouldReset, lockedChemical.getChemical(), lockedChemical.getAmount());
+    }
 }
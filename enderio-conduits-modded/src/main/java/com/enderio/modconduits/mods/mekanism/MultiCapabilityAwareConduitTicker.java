@@ -46,7 +46,7 @@ public abstract class MultiCapabilityAwareConduitTicker<TConduit extends Conduit
         List<CapabilityConnection<TCap>> insertCaps = new ArrayList<>();
         for (Connection insert : inserts) {
             for (BlockCapability<? extends TCap, Direction> cap : capabilities) {
-                TCap capability = level.getCapability(cap, insert.move(), insert.direction().getOpposite());
+                TCap capability = insert.node().getNeighbourCapability(level, cap, insert.direction());
                 if (capability != null) {
                     insertCaps.add(new CapabilityConnection<>(insert.direction(), insert.node(), capability));
                 }
@@ -58,7 +58,7 @@ public abstract class MultiCapabilityAwareConduitTicker<TConduit extends Conduit
 
             for (Connection extract : extracts) {
                 for (BlockCapability<? extends TCap, Direction> cap : capabilities) {
-                    TCap capability = level.getCapability(cap, extract.move(), extract.direction().getOpposite());
+                    TCap capability = extract.node().getNeighbourCapability(level, cap, extract.direction());
                     if (capability != null) {
                         extractCaps.add(new CapabilityConnection<>(extract.direction(), extract.node(), capability));
                     }
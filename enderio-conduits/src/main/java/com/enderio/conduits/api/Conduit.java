@@ -121,6 +121,18 @@ public interface Conduit<TConduit extends Conduit<TConduit>> extends
     default void onConnectTo(ConduitNode selfNode, ConduitNode otherNode) {
     }
 
+    /**
+     * Called on the server when a block next to the conduit bundle has changed.
+     */
+    default void onNeighborChanged(ConduitNode node, Level level, BlockPos pos, BlockPos fromPos) {
+    }
+
+    /**
+     * Called on the server after a player changed the node's data through the conduit screen.
+     */
+    default void onClientDataChanged(ConduitNode node) {
+    }
+
     // endregion
 
     @Nullable
@@ -1,7 +1,39 @@
 package com.enderio.conduits.api;
 
+import com.enderio.conduits.api.ticker.IOAwareConduitTicker;
+import net.minecraft.world.item.DyeColor;
+
 import java.util.Collection;
+import java.util.List;
 
 public interface ConduitNetwork extends ConduitNetworkContextAccessor {
+    /**
+     * @return an unmodifiable snapshot of the nodes in this network, replaced whenever nodes join or leave.
+     */
     Collection<ConduitNode> getNodes();
+
+    /**
+     * @return the number of nodes in this network.
+     */
+    int size();
+
+    /**
+     * @return every connection in this network inserting on the given channel, loaded or not.
+     */
+    List<IOAwareConduitTicker.Connection> getInsertConnections(DyeColor color);
+
+    /**
+     * @return every connection in this network extracting on the given channel, loaded or not.
+     */
+    List<IOAwareConduitTicker.Connection> getExtractConnections(DyeColor color);
+
+    /**
+     * @return a number that changes whenever a connection in this network is added, removed or changes channel.
+     */
+    long getConnectionsVersion();
+
+    /**
+     * Call after changing a saved value in this network's context, so the change is saved.
+     */
+    void markContextChanged();
 }
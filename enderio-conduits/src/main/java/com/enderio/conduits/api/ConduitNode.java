@@ -5,7 +5,9 @@ import com.enderio.base.api.misc.RedstoneControl;
 import com.enderio.conduits.api.upgrade.ConduitUpgrade;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
+import net.minecraft.server.level.ServerLevel;
 import net.minecraft.world.item.DyeColor;
+import net.neoforged.neoforge.capabilities.BlockCapability;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.Optional;
@@ -26,6 +28,18 @@ public interface ConduitNode extends ConduitDataAccessor {
     @Nullable
     ConduitNetwork getParentGraph();
 
+    /**
+     * Get a capability of the block on the given side of this node.
+     * Lookups are cached per side and invalidated by the level, so this is cheap enough to call every tick.
+     */
+    @Nullable
+    <T> T getNeighbourCapability(ServerLevel level, BlockCapability<T, Direction> capability, Direction direction);
+
+    /**
+     * Call after changing this node's data in place, so the change is saved and synced to clients.
+     */
+    void markDataChanged();
+
     record IOState(Optional<DyeColor> insert, Optional<DyeColor> extract, RedstoneControl control, DyeColor redstoneChannel) {
 
         public boolean isInsert() {
@@ -21,6 +21,16 @@ public interface ConduitCoreModelModifier {
         return List.of();
     }
 
+    /**
+     * Get a key covering everything in the node that {@link #createConnectionQuads} depends on, so bundles that look the same can share quads.
+     * The key must implement equals and hashCode.
+     * @return the key, or null if the quads must be created for every bundle.
+     */
+    @Nullable
+    default Object getCacheKey(Holder<Conduit<?>> conduit, ConduitNode node) {
+        return null;
+    }
+
     default List<ModelResourceLocation> getModelDependencies() {
         return List.of();
     }
@@ -22,8 +22,7 @@ public abstract class CapabilityAwareConduitTicker<TConduit extends Conduit<TCon
 
         List<CapabilityConnection> insertCaps = new ArrayList<>();
         for (Connection insert : inserts) {
-            // TODO: we should have bundle block entities cache neighbour capabilities...
-            TCap capability = level.getCapability(getCapability(), insert.move(), insert.direction().getOpposite());
+            TCap capability = insert.node().getNeighbourCapability(level, getCapability(), insert.direction());
             if (capability != null) {
                 insertCaps.add(new CapabilityConnection(insert.direction(), insert.node(), capability));
             }
@@ -33,7 +32,7 @@ public abstract class CapabilityAwareConduitTicker<TConduit extends Conduit<TCon
             List<CapabilityConnection> extractCaps = new ArrayList<>();
 
             for (Connection extract : extracts) {
-                TCap capability = level.getCapability(getCapability(), extract.move(), extract.direction().getOpposite());
+                TCap capability = extract.node().getNeighbourCapability(level, getCapability(), extract.direction());
                 if (capability != null) {
                     extractCaps.add(new CapabilityConnection(extract.direction(), extract.node(), capability));
                 }
@@ -15,9 +15,45 @@ import net.minecraft.server.level.ServerLevel;
 import net.minecraft.world.item.DyeColor;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.ArrayList;
 import java.util.List;
 
 public interface IOAwareConduitTicker<TConduit extends Conduit<TConduit>> extends LoadedAwareConduitTicker<TConduit> {
+
+    /**
+     * Ticks the network using its endpoint index, so only the loaded insert and extract connections are visited.
+     */
+    @Override
+    default void tickGraph(ServerLevel level, TConduit conduit, ConduitNetwork graph, ColoredRedstoneProvider coloredRedstoneProvider) {
+        for (DyeColor color : DyeColor.values()) {
+            List<Connection> extractList = new ArrayList<>();
+            for (Connection extract : graph.getExtractConnections(color)) {
+                if (isLoaded(level, extract.pos()) && extract.node()
+                    .getIOState(extract.direction())
+                    .filter(ioState -> isRedstoneMode(conduit, level, extract.pos(), ioState, coloredRedstoneProvider))
+                    .isPresent()) {
+                    extractList.add(extract);
+                }
+            }
+
+            List<Connection> insertList = new ArrayList<>();
+            for (Connection insert : graph.getInsertConnections(color)) {
+                if (isLoaded(level, insert.pos())) {
+                    insertList.add(insert);
+                }
+            }
+
+            if (shouldSkipColor(extractList, insertList)) {
+                continue;
+            }
+
+            tickColoredGraph(level, conduit, insertList, extractList, color, graph, coloredRedstoneProvider);
+        }
+    }
+
+    /**
+     * Ticks the network using only the given nodes, scanning each of their sides for connections.
+     */
     @Override
     default void tickGraph(ServerLevel level, TConduit conduit, List<ConduitNode> loadedNodes, ConduitNetwork graph,
                            ColoredRedstoneProvider coloredRedstoneProvider) {
@@ -29,6 +29,7 @@ import net.minecraft.core.Vec3i;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.util.RandomSource;
 import net.minecraft.world.inventory.InventoryMenu;
+import net.minecraft.world.item.DyeColor;
 import net.minecraft.world.level.block.state.BlockState;
 import net.neoforged.neoforge.client.ChunkRenderTypeSet;
 import net.neoforged.neoforge.client.model.IDynamicBakedModel;
@@ -41,8 +42,10 @@ import org.joml.Quaternionf;
 import org.joml.Vector3f;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -62,150 +65,228 @@ import static com.enderio.conduits.client.ConduitClientSetup.modelOf;
 
 public class ConduitBlockModel implements IDynamicBakedModel {
 
+    private static final int QUAD_CACHE_SIZE = 2048;
+
+    // Bundles that look the same share their quads. Chunk meshes are built on several threads, hence the synchronization.
+    private final Map<QuadCacheKey, List<BakedQuad>> quadCache = Collections.synchronizedMap(new LinkedHashMap<>(QUAD_CACHE_SIZE, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<QuadCacheKey, List<BakedQuad>> eldest) {
+            return size() > QUAD_CACHE_SIZE;
+        }
+    });
+
     @Override
     public List<BakedQuad> getQuads(@Nullable BlockState state, @Nullable Direction side, RandomSource rand, ModelData extraData,
         @Nullable RenderType renderType) {
 
-        List<BakedQuad> quads = new ArrayList<>();
         ConduitBundle conduitBundle = extraData.get(ConduitBundleBlockEntity.BUNDLE_MODEL_PROPERTY);
         BlockPos pos = extraData.get(ConduitBundleBlockEntity.POS);
 
-        if (conduitBundle != null && pos != null) {
-            Direction.Axis axis = OffsetHelper.findMainAxis(conduitBundle);
-            Map<Holder<Conduit<?>>, List<Vec3i>> offsets = new HashMap<>();
+        if (conduitBundle == null || pos == null) {
+            return List.of();
+        }
 
-            for (Direction direction : Direction.values()) {
-                boolean isEnd = conduitBundle.isConnectionEnd(direction);
-                Direction preRotation = rotateDirection(direction, side);
-                IQuadTransformer rotation = QuadTransformers.applying(rotateTransformation(direction));
+        @Nullable QuadCacheKey key = createCacheKey(conduitBundle, side, renderType);
+        if (key == null) {
+            return createQuads(state, side, rand, extraData, renderType, conduitBundle, pos);
+        }
 
-                if (isEnd) {
-                    quads.addAll(rotation.process(modelOf(CONDUIT_CONNECTOR).getQuads(state, preRotation, rand, extraData, renderType)));
-                }
+        List<BakedQuad> quads = quadCache.get(key);
+        if (quads == null) {
+            quads = List.copyOf(createQuads(state, side, rand, extraData, renderType, conduitBundle, pos));
+            quadCache.put(key, quads);
+        }
 
-                var connectedTypes = conduitBundle.getConnectedConduits(direction);
-                for (int i = 0; i < connectedTypes.size(); i++) {
-                    Holder<Conduit<?>> conduit = connectedTypes.get(i);
-                    ConduitGraphObject node = conduitBundle.getNodeFor(conduit);
-
-                    Vec3i offset = OffsetHelper.translationFor(direction.getAxis(), OffsetHelper.offsetConduit(i, connectedTypes.size()));
-                    offsets.computeIfAbsent(conduit, ignored -> new ArrayList<>()).add(offset);
-                    IQuadTransformer rotationTranslation = rotation.andThen(QuadTransformers.applying(translateTransformation(offset)));
-                    quads.addAll(new ConduitTextureEmissiveQuadTransformer(sprite(conduitBundle, conduit), 0)
-                        .andThen(rotationTranslation)
-                        .process(modelOf(CONDUIT_CONNECTION).getQuads(state, preRotation, rand, extraData, renderType)));
-
-                    ConduitCoreModelModifier conduitCoreModifier = ConduitCoreModelModifiers.getModifier(conduit.value().type());
-                    if (conduitCoreModifier != null) {
-                        quads.addAll(rotationTranslation.process(conduitCoreModifier.createConnectionQuads(conduit, node, side, direction, rand, renderType)));
-                    }
+        return quads;
+    }
 
-                    if (isEnd) {
-                        quads.addAll(rotationTranslation.process(modelOf(CONDUIT_CONNECTION_BOX).getQuads(state, preRotation, rand, extraData, renderType)));
-
-                        ConnectionState connectionState = conduitBundle.getConnectionState(direction, conduit);
-                        if (connectionState instanceof DynamicConnectionState dyn) {
-                            IQuadTransformer color = rotationTranslation.andThen(new ColorQuadTransformer(dyn.insertChannel(), dyn.extractChannel()));
-                            BakedModel model = null;
-                            if (dyn.isExtract() && dyn.isInsert()) {
-                                model = modelOf(CONDUIT_IO_IN_OUT);
-                            } else if (dyn.isInsert()) {
-                                model = modelOf(CONDUIT_IO_IN);
-                            } else if (dyn.isExtract()) {
-                                model = modelOf(CONDUIT_IO_OUT);
-                            }
-
-                            if (model != null) {
-                                quads.addAll(color.process(model.getQuads(state, preRotation, rand, extraData, renderType)));
-                            }
-
-                            if (dyn.control() == RedstoneControl.ACTIVE_WITH_SIGNAL || dyn.control() == RedstoneControl.ACTIVE_WITHOUT_SIGNAL) {
-                                quads.addAll(rotationTranslation
-                                    .andThen(new ColorQuadTransformer(null, dyn.redstoneChannel()))
-                                    .process(modelOf(CONDUIT_IO_REDSTONE).getQuads(state, preRotation, rand, extraData, renderType)));
-                            }
-                        }
-                    }
+    /**
+     * Create a key covering everything the quads depend on.
+     * @return the key, or null if the quads of this bundle can't be shared.
+     */
+    @Nullable
+    private static QuadCacheKey createCacheKey(ConduitBundle conduitBundle, @Nullable Direction side, @Nullable RenderType renderType) {
+        List<Object> visualState = new ArrayList<>();
+
+        for (Holder<Conduit<?>> conduit : conduitBundle.getConduits()) {
+            visualState.add(conduit);
+            visualState.add(conduit.value().getTexture(conduitBundle.getNodeFor(conduit)));
+
+            ConduitCoreModelModifier conduitCoreModifier = ConduitCoreModelModifiers.getModifier(conduit.value().type());
+            if (conduitCoreModifier != null) {
+                Object modifierKey = conduitCoreModifier.getCacheKey(conduit, conduitBundle.getNodeFor(conduit));
+                if (modifierKey == null) {
+                    return null;
                 }
 
-                Optional<BlockState> facadeOpt = conduitBundle.getFacade(direction);
-                if (facadeOpt.isPresent()) {
-                    BlockState facade = facadeOpt.get();
-                    BakedModel facadeModel = Minecraft.getInstance().getBlockRenderer().getBlockModel(facade);
-                    List<BakedQuad> textureQuads = facadeModel.getQuads(state, preRotation, rand, ModelData.EMPTY, renderType);
+                visualState.add(modifierKey);
+            }
+        }
 
-                    quads.addAll(rotation
-                        .andThen(new BlockColorQuadDataTransformer(pos, Minecraft.getInstance().level, facade))
-                        .andThen(new PaintingQuadTransformer(facade, renderType))
-                        .process(modelOf(CONDUIT_FACADE).getQuads(state, preRotation, rand, ModelData.EMPTY, renderType)));
-                }
+        for (Direction direction : Direction.values()) {
+            // Facades are tinted based on their position.
+            if (conduitBundle.hasFacade(direction)) {
+                return null;
             }
 
-            var allTypes = conduitBundle.getConduits();
-            @Nullable Area box = null;
-            Map<Holder<Conduit<?>>, Integer> notRendered = new HashMap<>();
-            List<Holder<Conduit<?>>> rendered = new ArrayList<>();
-            for (int i = 0; i < allTypes.size(); i++) {
-                var type = allTypes.get(i);
-                @Nullable List<Vec3i> offsetsForType = offsets.get(type);
-                if (offsetsForType != null) {
-                    //all are pointing to the same xyz reference meaning that we can draw the core
-                    if (offsetsForType.stream().distinct().count() == 1) {
-                        rendered.add(type);
-                    } else {
-                        if (box == null) {
-                            box = new Area(offsetsForType.toArray(new Vec3i[0]));
-                        } else {
-                            offsetsForType.forEach(box::makeContain);
+            for (Holder<Conduit<?>> conduit : conduitBundle.getConduits()) {
+                visualState.add(connectionKey(conduitBundle.getConnectionState(direction, conduit)));
+            }
+        }
+
+        return new QuadCacheKey(visualState, side, renderType);
+    }
+
+    /**
+     * Dynamic connections hold their filter and upgrade items, which don't affect the model and would break equality.
+     */
+    private static Object connectionKey(ConnectionState connectionState) {
+        if (connectionState instanceof DynamicConnectionState dyn) {
+            return new DynamicConnectionKey(dyn.isInsert(), dyn.insertChannel(), dyn.isExtract(), dyn.extractChannel(), dyn.control(), dyn.redstoneChannel());
+        }
+
+        return connectionState;
+    }
+
+    private List<BakedQuad> createQuads(@Nullable BlockState state, @Nullable Direction side, RandomSource rand, ModelData extraData,
+        @Nullable RenderType renderType, ConduitBundle conduitBundle, BlockPos pos) {
+
+        List<BakedQuad> quads = new ArrayList<>();
+
+        Direction.Axis axis = OffsetHelper.findMainAxis(conduitBundle);
+        Map<Holder<Conduit<?>>, List<Vec3i>> offsets = new HashMap<>();
+
+        for (Direction direction : Direction.values()) {
+            boolean isEnd = conduitBundle.isConnectionEnd(direction);
+            Direction preRotation = rotateDirection(direction, side);
+            IQuadTransformer rotation = QuadTransformers.applying(rotateTransformation(direction));
+
+            if (isEnd) {
+                quads.addAll(rotation.process(modelOf(CONDUIT_CONNECTOR).getQuads(state, preRotation, rand, extraData, renderType)));
+            }
+
+            var connectedTypes = conduitBundle.getConnectedConduits(direction);
+            for (int i = 0; i < connectedTypes.size(); i++) {
+                Holder<Conduit<?>> conduit = connectedTypes.get(i);
+                ConduitGraphObject node = conduitBundle.getNodeFor(conduit);
+
+                Vec3i offset = OffsetHelper.translationFor(direction.getAxis(), OffsetHelper.offsetConduit(i, connectedTypes.size()));
+                offsets.computeIfAbsent(conduit, ignored -> new ArrayList<>()).add(offset);
+                IQuadTransformer rotationTranslation = rotation.andThen(QuadTransformers.applying(translateTransformation(offset)));
+                quads.addAll(new ConduitTextureEmissiveQuadTransformer(sprite(conduitBundle, conduit), 0)
+                    .andThen(rotationTranslation)
+                    .process(modelOf(CONDUIT_CONNECTION).getQuads(state, preRotation, rand, extraData, renderType)));
+
+                ConduitCoreModelModifier conduitCoreModifier = ConduitCoreModelModifiers.getModifier(conduit.value().type());
+                if (conduitCoreModifier != null) {
+                    quads.addAll(rotationTranslation.process(conduitCoreModifier.createConnectionQuads(conduit, node, side, direction, rand, renderType)));
+                }
+
+                if (isEnd) {
+                    quads.addAll(rotationTranslation.process(modelOf(CONDUIT_CONNECTION_BOX).getQuads(state, preRotation, rand, extraData, renderType)));
+
+                    ConnectionState connectionState = conduitBundle.getConnectionState(direction, conduit);
+                    if (connectionState instanceof DynamicConnectionState dyn) {
+                        IQuadTransformer color = rotationTranslation.andThen(new ColorQuadTransformer(dyn.insertChannel(), dyn.extractChannel()));
+                        BakedModel model = null;
+                        if (dyn.isExtract() && dyn.isInsert()) {
+                            model = modelOf(CONDUIT_IO_IN_OUT);
+                        } else if (dyn.isInsert()) {
+                            model = modelOf(CONDUIT_IO_IN);
+                        } else if (dyn.isExtract()) {
+                            model = modelOf(CONDUIT_IO_OUT);
+                        }
+
+                        if (model != null) {
+                            quads.addAll(color.process(model.getQuads(state, preRotation, rand, extraData, renderType)));
+                        }
+
+                        if (dyn.control() == RedstoneControl.ACTIVE_WITH_SIGNAL || dyn.control() == RedstoneControl.ACTIVE_WITHOUT_SIGNAL) {
+                            quads.addAll(rotationTranslation
+                                .andThen(new ColorQuadTransformer(null, dyn.redstoneChannel()))
+                                .process(modelOf(CONDUIT_IO_REDSTONE).getQuads(state, preRotation, rand, extraData, renderType)));
                         }
                     }
-                } else {
-                    notRendered.put(type, i);
                 }
             }
 
-            Set<Vec3i> duplicateFinder = new HashSet<>();
-            //rendered have only one distinct pos, so I can safely assume get(0) is valid
-            List<Vec3i> duplicatePositions = rendered.stream().map(offsets::get).map(l -> l.get(0)).filter(n -> !duplicateFinder.add(n)).toList();
-            for (Vec3i duplicatePosition : duplicatePositions) {
-                if (box == null) {
-                    box = new Area(duplicatePosition);
-                } else {
-                    box.makeContain(duplicatePosition);
-                }
-            }
-            for (Holder<Conduit<?>> toRender : rendered) {
-                List<Vec3i> offsetsForType = offsets.get(toRender);
-                if (box == null || !box.contains(offsetsForType.get(0))) {
-                    quads.addAll(new ConduitTextureEmissiveQuadTransformer(sprite(conduitBundle, toRender), 0)
-                        .andThen(QuadTransformers.applying(translateTransformation(offsetsForType.get(0))))
-                        .process(modelOf(CONDUIT_CORE).getQuads(state, side, rand, extraData, renderType)));
-                }
+            Optional<BlockState> facadeOpt = conduitBundle.getFacade(direction);
+            if (facadeOpt.isPresent()) {
+                BlockState facade = facadeOpt.get();
+                BakedModel facadeModel = Minecraft.getInstance().getBlockRenderer().getBlockModel(facade);
+                List<BakedQuad> textureQuads = facadeModel.getQuads(state, preRotation, rand, ModelData.EMPTY, renderType);
+
+                quads.addAll(rotation
+                    .andThen(new BlockColorQuadDataTransformer(pos, Minecraft.getInstance().level, facade))
+                    .andThen(new PaintingQuadTransformer(facade, renderType))
+                    .process(modelOf(CONDUIT_FACADE).getQuads(state, preRotation, rand, ModelData.EMPTY, renderType)));
             }
+        }
 
-            if (box != null) {
-                for (Map.Entry<Holder<Conduit<?>>, Integer> notRenderedEntry : notRendered.entrySet()) {
-                    Vec3i offset = OffsetHelper.translationFor(axis, OffsetHelper.offsetConduit(notRenderedEntry.getValue(), allTypes.size()));
-                    if (!box.contains(offset)) {
-                        quads.addAll(new ConduitTextureEmissiveQuadTransformer(
-                            sprite(conduitBundle, notRenderedEntry.getKey()), 0)
-                            .andThen(QuadTransformers.applying(translateTransformation(offset)))
-                            .process(modelOf(CONDUIT_CORE).getQuads(state, side, rand, extraData, renderType)));
+        var allTypes = conduitBundle.getConduits();
+        @Nullable Area box = null;
+        Map<Holder<Conduit<?>>, Integer> notRendered = new HashMap<>();
+        List<Holder<Conduit<?>>> rendered = new ArrayList<>();
+        for (int i = 0; i < allTypes.size(); i++) {
+            var type = allTypes.get(i);
+            @Nullable List<Vec3i> offsetsForType = offsets.get(type);
+            if (offsetsForType != null) {
+                //all are pointing to the same xyz reference meaning that we can draw the core
+                if (offsetsForType.stream().distinct().count() == 1) {
+                    rendered.add(type);
+                } else {
+                    if (box == null) {
+                        box = new Area(offsetsForType.toArray(new Vec3i[0]));
+                    } else {
+                        offsetsForType.forEach(box::makeContain);
                     }
                 }
+            } else {
+                notRendered.put(type, i);
+            }
+        }
 
-                quads.addAll(new BoxTextureQuadTransformer(box.size())
-                    .andThen(QuadTransformers.applying(translateTransformation(box.getMin())))
-                    .process(modelOf(BOX).getQuads(state, side, rand, extraData, renderType)));
+        Set<Vec3i> duplicateFinder = new HashSet<>();
+        //rendered have only one distinct pos, so I can safely assume get(0) is valid
+        List<Vec3i> duplicatePositions = rendered.stream().map(offsets::get).map(l -> l.get(0)).filter(n -> !duplicateFinder.add(n)).toList();
+        for (Vec3i duplicatePosition : duplicatePositions) {
+            if (box == null) {
+                box = new Area(duplicatePosition);
             } else {
-                for (Map.Entry<Holder<Conduit<?>>, Integer> notRenderedEntry : notRendered.entrySet()) {
+                box.makeContain(duplicatePosition);
+            }
+        }
+        for (Holder<Conduit<?>> toRender : rendered) {
+            List<Vec3i> offsetsForType = offsets.get(toRender);
+            if (box == null || !box.contains(offsetsForType.get(0))) {
+                quads.addAll(new ConduitTextureEmissiveQuadTransformer(sprite(conduitBundle, toRender), 0)
+                    .andThen(QuadTransformers.applying(translateTransformation(offsetsForType.get(0))))
+                    .process(modelOf(CONDUIT_CORE).getQuads(state, side, rand, extraData, renderType)));
+            }
+        }
+
+        if (box != null) {
+            for (Map.Entry<Holder<Conduit<?>>, Integer> notRenderedEntry : notRendered.entrySet()) {
+                Vec3i offset = OffsetHelper.translationFor(axis, OffsetHelper.offsetConduit(notRenderedEntry.getValue(), allTypes.size()));
+                if (!box.contains(offset)) {
                     quads.addAll(new ConduitTextureEmissiveQuadTransformer(
                         sprite(conduitBundle, notRenderedEntry.getKey()), 0)
-                        .andThen(QuadTransformers.applying(translateTransformation(
-                            OffsetHelper.translationFor(axis, OffsetHelper.offsetConduit(notRenderedEntry.getValue(), allTypes.size())))))
+                        .andThen(QuadTransformers.applying(translateTransformation(offset)))
                         .process(modelOf(CONDUIT_CORE).getQuads(state, side, rand, extraData, renderType)));
                 }
             }
+
+            quads.addAll(new BoxTextureQuadTransformer(box.size())
+                .andThen(QuadTransformers.applying(translateTransformation(box.getMin())))
+                .process(modelOf(BOX).getQuads(state, side, rand, extraData, renderType)));
+        } else {
+            for (Map.Entry<Holder<Conduit<?>>, Integer> notRenderedEntry : notRendered.entrySet()) {
+                quads.addAll(new ConduitTextureEmissiveQuadTransformer(
+                    sprite(conduitBundle, notRenderedEntry.getKey()), 0)
+                    .andThen(QuadTransformers.applying(translateTransformation(
+                        OffsetHelper.translationFor(axis, OffsetHelper.offsetConduit(notRenderedEntry.getValue(), allTypes.size())))))
+                    .process(modelOf(CONDUIT_CORE).getQuads(state, side, rand, extraData, renderType)));
+            }
         }
 
         return quads;
@@ -307,4 +388,11 @@ public class ConduitBlockModel implements IDynamicBakedModel {
     private static boolean isMissingModel(BakedModel model) {
         return model == Minecraft.getInstance().getModelManager().getMissingModel();
     }
+
+    private record QuadCacheKey(List<Object> visualState, @Nullable Direction side, @Nullable RenderType renderType) {
+    }
+
+    private record DynamicConnectionKey(boolean isInsert, DyeColor insertChannel, boolean isExtract, DyeColor extractChannel, RedstoneControl control,
+        DyeColor redstoneChannel) {
+    }
 }
@@ -3,6 +3,7 @@ package com.enderio.conduits.client.model.conduit.modifier;
 import com.enderio.conduits.api.ConduitType;
 import com.enderio.conduits.api.model.ConduitCoreModelModifier;
 import com.enderio.conduits.api.model.RegisterConduitCoreModelModifiersEvent;
+import com.enderio.conduits.common.conduit.block.ConduitBundleBlockEntity;
 import me.liliandev.ensure.ensures.EnsureSide;
 import net.minecraft.client.resources.model.ModelResourceLocation;
 import net.neoforged.fml.ModLoader;
@@ -24,6 +25,7 @@ public class ConduitCoreModelModifiers {
 
         MODIFIERS = new HashMap<>();
         factories.forEach((t, f) -> MODIFIERS.put(t, f.createModifier()));
+        ConduitBundleBlockEntity.setDataModelledTypes(MODIFIERS.keySet());
     }
 
     @EnsureSide(EnsureSide.Side.CLIENT)
@@ -49,6 +49,12 @@ public class FluidConduitCoreModelModifier implements ConduitCoreModelModifier {
         return List.of();
     }
 
+    @Override
+    public Object getCacheKey(Holder<Conduit<?>> conduit, ConduitNode node) {
+        FluidConduitData data = node.getData(ConduitTypes.Data.FLUID.get());
+        return data != null ? data.lockedFluid() : Fluids.EMPTY;
+    }
+
     @Override
     public List<ModelResourceLocation> getModelDependencies() {
         return List.of(FLUID_MODEL);
@@ -1,5 +1,6 @@
 package com.enderio.conduits.common.conduit;
 
+import com.enderio.base.api.UseOnly;
 import com.enderio.conduits.api.Conduit;
 import com.enderio.conduits.api.SlotType;
 import com.enderio.conduits.common.conduit.connection.ConnectionState;
@@ -8,6 +9,7 @@ import com.enderio.conduits.common.conduit.connection.StaticConnectionStates;
 import com.enderio.core.common.network.NetworkDataSlot;
 import com.mojang.serialization.Codec;
 import com.mojang.serialization.codecs.RecordCodecBuilder;
+import io.netty.buffer.ByteBuf;
 import me.liliandev.ensure.ensures.EnsureSide;
 import net.minecraft.Util;
 import net.minecraft.core.BlockPos;
@@ -22,7 +24,9 @@ import net.minecraft.network.codec.StreamCodec;
 import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.Block;
 import net.minecraft.world.level.block.state.BlockState;
+import net.neoforged.fml.LogicalSide;
 import net.neoforged.fml.loading.FMLLoader;
 import net.neoforged.fml.util.thread.EffectiveSide;
 import org.jetbrains.annotations.Nullable;
@@ -31,10 +35,13 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.EnumMap;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
 
 public final class ConduitBundle {
 
@@ -70,7 +77,10 @@ public final class ConduitBundle {
         ConduitBundle::new
     );
 
-    public static NetworkDataSlot.CodecType<ConduitBundle> DATA_SLOT_TYPE = new NetworkDataSlot.CodecType<>(CODEC, STREAM_CODEC);
+    private static final StreamCodec<ByteBuf, Optional<BlockState>> FACADE_STREAM_CODEC =
+        ByteBufCodecs.optional(ByteBufCodecs.idMapper(Block.BLOCK_STATE_REGISTRY));
+
+    public static final NetworkDataSlot.Type<ConduitBundle> DATA_SLOT_TYPE = new DataSlotType();
 
     private final Map<Direction, ConduitConnection> connections = new EnumMap<>(Direction.class);
     private final List<Holder<Conduit<?>>> conduits = new ArrayList<>();
@@ -84,6 +94,19 @@ public final class ConduitBundle {
     @Nullable
     private Runnable onChangedRunnable;
 
+    // Bumped by every mutator, used by the block entity's data slot for change detection.
+    private int version;
+
+    // What has changed since the last sync was written.
+    private boolean needsFullSync = true;
+    private int dirtyConnections;
+    private int dirtyFacades;
+    private final Set<Holder<Conduit<?>>> dirtyData = new HashSet<>();
+    private final Map<Holder<Conduit<?>>, Integer> syncedDataHashes = new HashMap<>();
+
+    @UseOnly(LogicalSide.CLIENT)
+    private SyncChanges lastSyncChanges = SyncChanges.FULL;
+
     public ConduitBundle(Runnable onChanged, BlockPos pos) {
         this.onChangedRunnable = onChanged;
         for (Direction value : Direction.values()) {
@@ -108,7 +131,7 @@ public final class ConduitBundle {
         this.conduits.addAll(conduits);
         this.connections.putAll(connections);
         this.facadeTextures.putAll(facadeTextures);
-        this.conduitNodes.putAll(conduitNodes);
+        conduitNodes.forEach(this::putNode);
     }
 
     // TODO: I kind of want to get rid of this.
@@ -117,11 +140,36 @@ public final class ConduitBundle {
     }
 
     public void onChanged() {
+        version++;
         if (onChangedRunnable != null) {
             onChangedRunnable.run();
         }
     }
 
+    private void putNode(Holder<Conduit<?>> conduit, ConduitGraphObject node) {
+        ConduitGraphObject oldNode = conduitNodes.put(conduit, node);
+        if (oldNode != null && oldNode != node) {
+            oldNode.setDataChangedListener(null);
+        }
+
+        node.setDataChangedListener(() -> onNodeDataChanged(conduit));
+    }
+
+    private void onNodeDataChanged(Holder<Conduit<?>> conduit) {
+        // Only the synced part of the data matters here, so changes to unsynced fields don't cause an update.
+        ConduitGraphObject node = conduitNodes.get(conduit);
+        Integer syncedHash = syncedDataHashes.get(conduit);
+        if (node != null && (syncedHash == null || syncedHash != node.conduitDataContainer().hashCode())) {
+            dirtyData.add(conduit);
+            version++;
+        }
+    }
+
+    private void onConnectionChanged(Direction direction) {
+        dirtyConnections |= 1 << direction.get3DDataValue();
+        onChanged();
+    }
+
     /**
      * @return an action containing the conduit that is now not in this bundle
      */
@@ -146,15 +194,18 @@ public final class ConduitBundle {
             ConduitGraphObject prevNode = conduitNodes.remove(first.get());
 
             if (prevNode != null) {
+                prevNode.setDataChangedListener(null);
                 node = new ConduitGraphObject(pos, prevNode.conduitDataContainer()); //new node with old data
                 conduit.value().onRemoved(prevNode, level, pos);
+                prevNode.clearNeighbourCapabilities();
                 if (!level.isClientSide() && prevNode.getGraph() != null) {
-                    prevNode.getGraph().remove(prevNode);
+                    ConduitGraphUtility.remove(prevNode);
                 }
             }
 
-            conduitNodes.put(conduit, node);
+            putNode(conduit, node);
             conduit.value().onCreated(node, level, pos, player);
+            needsFullSync = true;
             onChanged();
 
             return new RightClickAction.Upgrade(first.get());
@@ -171,7 +222,7 @@ public final class ConduitBundle {
         if (addBefore.isPresent()) {
             var value = conduits.indexOf(addBefore.get());
             conduits.add(value, conduit);
-            conduitNodes.put(conduit, node);
+            putNode(conduit, node);
 
             conduit.value().onCreated(node, level, pos, player);
 
@@ -180,13 +231,14 @@ public final class ConduitBundle {
             }
         } else {
             conduits.add(conduit);
-            conduitNodes.put(conduit, node);
+            putNode(conduit, node);
             if (conduits.size() != 1) {
                 //NeoForge contains a patch that calls onLoad after the conduit has been placed if it's the first one, so onCreated would be called twice. it's easier to detect here
                 conduit.value().onCreated(node, level, pos, player);
             }
         }
 
+        needsFullSync = true;
         onChanged();
         return new RightClickAction.Insert();
     }
@@ -226,6 +278,7 @@ public final class ConduitBundle {
         }
 
         conduits.remove(index);
+        needsFullSync = true;
         onChanged();
         return conduits.isEmpty();
     }
@@ -254,7 +307,7 @@ public final class ConduitBundle {
 
     public void setConnectionState(Direction direction, Holder<Conduit<?>> conduit, ConnectionState state) {
         connections.get(direction).setConnectionState(getConduitIndex(conduit), state);
-        onChanged();
+        onConnectionChanged(direction);
     }
 
     public boolean isConnectionEnd(Direction direction) {
@@ -265,7 +318,7 @@ public final class ConduitBundle {
     @Deprecated(forRemoval = true)
     public void disableConduit(Direction direction, int index) {
         connections.get(direction).disableType(index);
-        onChanged();
+        onConnectionChanged(direction);
     }
 
     public void disableConduit(Direction direction, Holder<Conduit<?>> conduit) {
@@ -282,7 +335,7 @@ public final class ConduitBundle {
 
     public void setConnectionItem(Direction direction, int conduitIndex, SlotType slotType, ItemStack itemStack) {
         connections.get(direction).setItem(slotType, conduitIndex, itemStack);
-        onChanged();
+        onConnectionChanged(direction);
     }
 
     public void setConnectionItem(Direction direction, Holder<Conduit<?>> conduit, SlotType slotType, ItemStack itemStack) {
@@ -303,6 +356,7 @@ public final class ConduitBundle {
 
     public void setFacade(BlockState facade, Direction direction) {
         facadeTextures.put(direction, facade);
+        dirtyFacades |= 1 << direction.get3DDataValue();
         onChanged();
     }
 
@@ -310,14 +364,14 @@ public final class ConduitBundle {
 
     public void connectTo(Level level, BlockPos pos, Direction direction, Holder<Conduit<?>> conduit, boolean end) {
         connections.get(direction).connectTo(level, pos, getNodeFor(conduit), direction, conduit, getConduitIndex(conduit), end);
-        onChanged();
+        onConnectionChanged(direction);
     }
 
     public boolean disconnectFrom(Direction direction, Holder<Conduit<?>> conduit) {
         for (int i = 0; i < conduits.size(); i++) {
             if (conduit.value().canConnectTo(conduits.get(i))) {
                 connections.get(direction).tryDisconnect(i);
-                onChanged();
+                onConnectionChanged(direction);
                 return true;
             }
         }
@@ -340,7 +394,8 @@ public final class ConduitBundle {
     }
 
     public void setNodeFor(Holder<Conduit<?>> conduit, ConduitGraphObject node) {
-        conduitNodes.put(conduit, node);
+        putNode(conduit, node);
+        version++;
         for (var direction : Direction.values()) {
             ConduitConnection connection = connections.get(direction);
             int index = conduits.indexOf(conduit);
@@ -355,10 +410,12 @@ public final class ConduitBundle {
 
     private void removeNode(Level level, Holder<Conduit<?>> conduit, ConduitGraphObject node) {
         conduit.value().onRemoved(node, level, pos);
+        node.clearNeighbourCapabilities();
         if (node.getGraph() != null) {
-            node.getGraph().remove(node);
+            ConduitGraphUtility.remove(node);
         }
 
+        node.setDataChangedListener(null);
         conduitNodes.remove(conduit);
     }
 
@@ -381,6 +438,14 @@ public final class ConduitBundle {
         throw new IllegalStateException("no matching conduit in bundle");
     }
 
+    /**
+     * @return a version that changes whenever the synced contents of this bundle change.
+     * Connections, conduits and facades are only changed through the bundle's mutators, and node data reports its own changes, both of which bump a counter.
+     */
+    public long getVersion() {
+        return version;
+    }
+
     @Override
     public int hashCode() {
         int hash = Objects.hash(connections, conduits, facadeTextures);
@@ -412,6 +477,184 @@ public final class ConduitBundle {
         return bundle;
     }
 
+    // region Sync
+
+    /**
+     * Write everything that changed since the last call.
+     * A full bundle is only written when the conduits themselves changed, otherwise only the changed connections, facades and node data are.
+     */
+    private void writeSync(RegistryFriendlyByteBuf buf) {
+        buf.writeBoolean(needsFullSync);
+        if (needsFullSync) {
+            STREAM_CODEC.encode(buf, this);
+
+            // The stream codec does not include facades.
+            for (Direction direction : Direction.values()) {
+                dirtyFacades |= 1 << direction.get3DDataValue();
+            }
+        } else {
+            buf.writeByte(dirtyConnections);
+            for (Direction direction : Direction.values()) {
+                if ((dirtyConnections & (1 << direction.get3DDataValue())) != 0) {
+                    ConduitConnection.STREAM_CODEC.encode(buf, connections.get(direction));
+                }
+            }
+        }
+
+        buf.writeByte(dirtyFacades);
+        for (Direction direction : Direction.values()) {
+            if ((dirtyFacades & (1 << direction.get3DDataValue())) != 0) {
+                FACADE_STREAM_CODEC.encode(buf, Optional.ofNullable(facadeTextures.get(direction)));
+            }
+        }
+
+        // A full sync already carries every node's data, otherwise only send data that changed since it was last sent.
+        List<Holder<Conduit<?>>> changedData = new ArrayList<>();
+        if (needsFullSync) {
+            syncedDataHashes.clear();
+            conduitNodes.forEach((conduit, node) -> syncedDataHashes.put(conduit, node.conduitDataContainer().hashCode()));
+        } else {
+            for (Holder<Conduit<?>> conduit : dirtyData) {
+                ConduitGraphObject node = conduitNodes.get(conduit);
+                if (node == null) {
+                    continue;
+                }
+
+                int dataHash = node.conduitDataContainer().hashCode();
+                Integer syncedHash = syncedDataHashes.put(conduit, dataHash);
+                if (syncedHash == null || syncedHash != dataHash) {
+                    changedData.add(conduit);
+                }
+            }
+        }
+
+        dirtyData.clear();
+
+        buf.writeVarInt(changedData.size());
+        for (Holder<Conduit<?>> conduit : changedData) {
+            Conduit.STREAM_CODEC.encode(buf, conduit);
+            ConduitDataContainer.STREAM_CODEC.encode(buf, conduitNodes.get(conduit).conduitDataContainer());
+        }
+
+        needsFullSync = false;
+        dirtyConnections = 0;
+        dirtyFacades = 0;
+    }
+
+    /**
+     * Apply an update written by {@link #writeSync}, in place unless it is a full update.
+     * @return the bundle that should replace the current one.
+     */
+    @EnsureSide(EnsureSide.Side.CLIENT)
+    private static ConduitBundle readSync(RegistryFriendlyByteBuf buf, ConduitBundle current) {
+        ConduitBundle bundle = current;
+        boolean full = buf.readBoolean();
+        int connectionMask = 0;
+        if (full) {
+            bundle = STREAM_CODEC.decode(buf);
+        } else {
+            connectionMask = buf.readByte();
+            for (Direction direction : Direction.values()) {
+                if ((connectionMask & (1 << direction.get3DDataValue())) != 0) {
+                    bundle.connections.put(direction, ConduitConnection.STREAM_CODEC.decode(buf));
+                }
+            }
+        }
+
+        int facadeMask = buf.readByte();
+        for (Direction direction : Direction.values()) {
+            if ((facadeMask & (1 << direction.get3DDataValue())) != 0) {
+                Optional<BlockState> facade = FACADE_STREAM_CODEC.decode(buf);
+                if (facade.isPresent()) {
+                    bundle.facadeTextures.put(direction, facade.get());
+                } else {
+                    bundle.facadeTextures.remove(direction);
+                }
+            }
+        }
+
+        List<Holder<Conduit<?>>> changedData = new ArrayList<>();
+        boolean texturesChanged = false;
+        for (int i = buf.readVarInt(); i > 0; i--) {
+            Holder<Conduit<?>> conduit = Conduit.STREAM_CODEC.decode(buf);
+            ConduitDataContainer data = ConduitDataContainer.STREAM_CODEC.decode(buf);
+
+            ConduitGraphObject oldNode = bundle.conduitNodes.get(conduit);
+            if (oldNode == null) {
+                continue;
+            }
+
+            ConduitGraphObject newNode = new ConduitGraphObject(bundle.pos, data);
+            bundle.setNodeFor(conduit, newNode);
+            changedData.add(conduit);
+
+            if (!conduit.value().getTexture(oldNode).equals(conduit.value().getTexture(newNode))) {
+                texturesChanged = true;
+            }
+        }
+
+        bundle.lastSyncChanges = new SyncChanges(full, connectionMask, facadeMask, changedData, texturesChanged);
+        return bundle;
+    }
+
+    /**
+     * @return what the last update received from the server changed.
+     */
+    @UseOnly(LogicalSide.CLIENT)
+    public SyncChanges getLastSyncChanges() {
+        return lastSyncChanges;
+    }
+
+    /**
+     * @param connections bitmask of the directions whose connections changed.
+     * @param facades bitmask of the directions whose facades changed.
+     * @param nodeData the conduits whose node data changed.
+     * @param texturesChanged whether a node data change changed a conduit's texture.
+     */
+    public record SyncChanges(boolean full, int connections, int facades, List<Holder<Conduit<?>>> nodeData, boolean texturesChanged) {
+        public static final SyncChanges FULL = new SyncChanges(true, 0, 0, List.of(), false);
+
+        /**
+         * @return whether the shape or model could have changed, not counting model modifiers reading node data.
+         */
+        public boolean isVisual() {
+            return full || connections != 0 || facades != 0 || texturesChanged;
+        }
+    }
+
+    /**
+     * Sends the full bundle in the initial update tag and only what changed in later updates.
+     */
+    private static final class DataSlotType implements NetworkDataSlot.Type<ConduitBundle> {
+
+        @Override
+        public int hash(ConduitBundle value) {
+            return value.hashCode();
+        }
+
+        @Override
+        public Tag save(HolderLookup.Provider lookupProvider, ConduitBundle value) {
+            return value.save(lookupProvider);
+        }
+
+        @Override
+        public ConduitBundle parse(HolderLookup.Provider lookupProvider, Tag tag, Supplier<ConduitBundle> currentValueSupplier) {
+            return ConduitBundle.parse(lookupProvider, tag);
+        }
+
+        @Override
+        public void write(RegistryFriendlyByteBuf buf, ConduitBundle value) {
+            value.writeSync(buf);
+        }
+
+        @Override
+        public ConduitBundle read(RegistryFriendlyByteBuf buf, Supplier<ConduitBundle> currentValueSupplier) {
+            return readSync(buf, currentValueSupplier.get());
+        }
+    }
+
+    // endregion
+
     // TODO: Clean this up
     private static final class ConduitConnection {
 
@@ -0,0 +1,108 @@
+package com.enderio.conduits.common.conduit;
+
+import com.enderio.conduits.api.ConduitNode;
+import com.enderio.conduits.api.ticker.IOAwareConduitTicker.Connection;
+import dev.gigaherz.graph3.GraphObject;
+import net.minecraft.core.Direction;
+import net.minecraft.world.item.DyeColor;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Index of the insert and extract connections of a single graph, by channel.
+ * Node state changes update it in place, graph membership changes (merges and splits) cause a rebuild on next access.
+ */
+public final class ConduitEndpointIndex {
+
+    private static final int CHANNEL_COUNT = DyeColor.values().length;
+
+    private final List<List<Connection>> inserts = new ArrayList<>(CHANNEL_COUNT);
+    private final List<List<Connection>> extracts = new ArrayList<>(CHANNEL_COUNT);
+    private final List<List<Connection>> insertViews = new ArrayList<>(CHANNEL_COUNT);
+    private final List<List<Connection>> extractViews = new ArrayList<>(CHANNEL_COUNT);
+
+    private boolean needsRebuild = true;
+    private long version;
+
+    public ConduitEndpointIndex() {
+        for (int i = 0; i < CHANNEL_COUNT; i++) {
+            List<Connection> channelInserts = new ArrayList<>();
+            List<Connection> channelExtracts = new ArrayList<>();
+            inserts.add(channelInserts);
+            extracts.add(channelExtracts);
+            insertViews.add(Collections.unmodifiableList(channelInserts));
+            extractViews.add(Collections.unmodifiableList(channelExtracts));
+        }
+    }
+
+    public List<Connection> getInserts(DyeColor color) {
+        return insertViews.get(color.getId());
+    }
+
+    public List<Connection> getExtracts(DyeColor color) {
+        return extractViews.get(color.getId());
+    }
+
+    /**
+     * @return a counter that changes whenever any connection may have been added, removed or moved to another channel.
+     */
+    public long version() {
+        return version;
+    }
+
+    public boolean needsRebuild() {
+        return needsRebuild;
+    }
+
+    public void markNeedsRebuild() {
+        needsRebuild = true;
+        version++;
+    }
+
+    public void rebuild(Collection<? extends GraphObject<?>> objects) {
+        inserts.forEach(List::clear);
+        extracts.forEach(List::clear);
+
+        for (GraphObject<?> object : objects) {
+            if (object instanceof ConduitNode node) {
+                for (Direction direction : Direction.values()) {
+                    add(node, direction);
+                }
+            }
+        }
+
+        needsRebuild = false;
+    }
+
+    /**
+     * Refresh the entries for one side of a node after its IO state changed.
+     */
+    public void update(ConduitNode node, Direction direction) {
+        version++;
+
+        // The next rebuild will pick this change up.
+        if (needsRebuild) {
+            return;
+        }
+
+        remove(node, direction);
+        add(node, direction);
+    }
+
+    private void add(ConduitNode node, Direction direction) {
+        node.getIOState(direction).ifPresent(ioState -> {
+            ioState.insert().ifPresent(color -> inserts.get(color.getId()).add(new Connection(direction, node)));
+            ioState.extract().ifPresent(color -> extracts.get(color.getId()).add(new Connection(direction, node)));
+        });
+    }
+
+    private void remove(ConduitNode node, Direction direction) {
+        for (int i = 0; i < CHANNEL_COUNT; i++) {
+            inserts.get(i).removeIf(connection -> connection.node() == node && connection.direction() == direction);
+            extracts.get(i).removeIf(connection -> connection.node() == node && connection.direction() == direction);
+        }
+    }
+}
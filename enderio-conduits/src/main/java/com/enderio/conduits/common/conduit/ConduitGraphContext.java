@@ -5,6 +5,9 @@ import com.enderio.conduits.api.Conduit;
 import com.enderio.conduits.api.ConduitNetworkContext;
 import com.enderio.conduits.api.ConduitNetworkContextAccessor;
 import com.enderio.conduits.api.ConduitNetworkContextType;
+import com.enderio.conduits.api.ConduitNode;
+import dev.gigaherz.graph3.Graph;
+import dev.gigaherz.graph3.GraphObject;
 import dev.gigaherz.graph3.Mergeable;
 import net.minecraft.core.Holder;
 import net.minecraft.core.HolderLookup;
@@ -14,6 +17,9 @@ import net.minecraft.nbt.Tag;
 import net.minecraft.resources.ResourceLocation;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Objects;
 
 public class ConduitGraphContext implements Mergeable<ConduitGraphContext>, ConduitNetworkContextAccessor {
@@ -21,6 +27,23 @@ public class ConduitGraphContext implements Mergeable<ConduitGraphContext>, Cond
     @Nullable
     private ConduitNetworkContext<?> context;
 
+    // Never carried across merges or copies, a new context always starts out needing a rebuild.
+    private final ConduitEndpointIndex endpointIndex = new ConduitEndpointIndex();
+
+    @Nullable
+    private List<ConduitNode> nodes;
+
+    private long lastTickNanos;
+    private long averageTickNanos;
+
+    // Last serialized form of this graph's objects and connections, reused while neither has changed.
+    @Nullable
+    private CompoundTag savedGraphTag;
+    private int dataVersion;
+    private int savedDataVersion;
+    private boolean isStructureChanged = true;
+    private boolean isContextChanged;
+
     public ConduitGraphContext() {
     }
 
@@ -66,13 +89,13 @@ public class ConduitGraphContext implements Mergeable<ConduitGraphContext>, Cond
             return new ConduitGraphContext(context);
         }
 
-        return this;
+        return new ConduitGraphContext();
     }
 
     @Override
     public ConduitGraphContext copy() {
         if (context == null) {
-            return this;
+            return new ConduitGraphContext();
         }
 
         return new ConduitGraphContext(context.copy());
@@ -80,6 +103,132 @@ public class ConduitGraphContext implements Mergeable<ConduitGraphContext>, Cond
 
     // endregion
 
+    // region Membership
+
+    /**
+     * Called whenever an object joins or leaves the graph owning this context.
+     */
+    public void onMembershipChanged() {
+        nodes = null;
+        endpointIndex.markNeedsRebuild();
+        markStructureChanged();
+    }
+
+    /**
+     * @return an unmodifiable view of the graph's nodes, only rebuilt after its membership changes.
+     */
+    public List<ConduitNode> nodes(Graph<ConduitGraphContext> graph) {
+        if (nodes == null) {
+            List<ConduitNode> graphNodes = new ArrayList<>(graph.getObjects().size());
+            for (GraphObject<ConduitGraphContext> object : graph.getObjects()) {
+                graphNodes.add((ConduitNode) object);
+            }
+
+            nodes = Collections.unmodifiableList(graphNodes);
+        }
+
+        return nodes;
+    }
+
+    // endregion
+
+    // region Endpoint Index
+
+    /**
+     * @return the endpoint index without rebuilding it, for use when pushing node changes.
+     */
+    public ConduitEndpointIndex endpointIndex() {
+        return endpointIndex;
+    }
+
+    /**
+     * @return the endpoint index for the given graph, rebuilding it first if the graph's membership has changed.
+     */
+    public ConduitEndpointIndex endpointIndex(Graph<ConduitGraphContext> graph) {
+        if (endpointIndex.needsRebuild()) {
+            endpointIndex.rebuild(graph.getObjects());
+        }
+
+        return endpointIndex;
+    }
+
+    // endregion
+
+    // region Save Caching
+
+    /**
+     * Mark that objects or connections were added to or removed from this graph since it was last saved.
+     */
+    public void markStructureChanged() {
+        isStructureChanged = true;
+    }
+
+    /**
+     * Mark that the data of a node in this graph changed since it was last saved.
+     */
+    public void markDataChanged() {
+        dataVersion++;
+    }
+
+    /**
+     * Mark that a saved value in the network context changed since it was last saved.
+     */
+    public void markContextChanged() {
+        isContextChanged = true;
+    }
+
+    /**
+     * @return whether anything in this graph changed since it was last saved.
+     */
+    public boolean hasUnsavedChanges() {
+        return isStructureChanged || isContextChanged || savedDataVersion != dataVersion;
+    }
+
+    /**
+     * @return the saved objects and connections, or null if they have changed since.
+     */
+    @Nullable
+    public CompoundTag getSavedGraphTag() {
+        if (isStructureChanged || savedDataVersion != dataVersion) {
+            return null;
+        }
+
+        return savedGraphTag;
+    }
+
+    public void setSavedGraphTag(CompoundTag graphTag) {
+        savedGraphTag = graphTag;
+        savedDataVersion = dataVersion;
+        isStructureChanged = false;
+    }
+
+    // endregion
+
+    // region Tick Timing
+
+    public void recordTickTime(long nanos) {
+        lastTickNanos = nanos;
+
+        // Exponential moving average, weighting the newest sample by 1/8.
+        averageTickNanos = averageTickNanos == 0 ? nanos : averageTickNanos + (nanos - averageTickNanos) / 8;
+    }
+
+    /**
+     * @return how long the last tick of this network took, in nanoseconds.
+     */
+    public long lastTickNanos() {
+        return lastTickNanos;
+    }
+
+    /**
+     * @return a moving average of how long this network takes to tick, in nanoseconds.
+     */
+    public long averageTickNanos() {
+        return averageTickNanos;
+    }
+
+    // endregion
+
     private <Z extends ConduitNetworkContext<Z>> Z castContext(){
         //noinspection unchecked
         return (Z)context;
@@ -87,6 +236,7 @@ public class ConduitGraphContext implements Mergeable<ConduitGraphContext>, Cond
 
     @Nullable
     public CompoundTag save(HolderLookup.Provider lookupProvider) {
+        isContextChanged = false;
         if (context == null) {
             return null;
         }
@@ -18,10 +18,14 @@ import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
 import net.minecraft.network.RegistryFriendlyByteBuf;
 import net.minecraft.network.codec.StreamCodec;
+import net.minecraft.server.level.ServerLevel;
 import net.neoforged.fml.LogicalSide;
+import net.neoforged.neoforge.capabilities.BlockCapability;
+import net.neoforged.neoforge.capabilities.BlockCapabilityCache;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.EnumMap;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
@@ -50,6 +54,10 @@ public class ConduitGraphObject implements GraphObject<ConduitGraphContext>, Con
     private final ConduitDataContainer conduitDataContainer;
     private final Map<Direction, DynamicConnectionState> connectionStates = new EnumMap<>(Direction.class);
 
+    private final Map<BlockCapability<?, Direction>, EnumMap<Direction, BlockCapabilityCache<?, Direction>>> neighbourCapabilities = new HashMap<>();
+
+    @Nullable private Runnable dataChangedListener = null;
+
     public ConduitGraphObject(BlockPos pos) {
         this.pos = pos;
         this.conduitDataContainer = new ConduitDataContainer();
@@ -68,6 +76,11 @@ public class ConduitGraphObject implements GraphObject<ConduitGraphContext>, Con
 
     @Override
     public void setGraph(@Nullable Graph<ConduitGraphContext> graph) {
+        if (this.graph != graph) {
+            onMembershipChanged(this.graph);
+            onMembershipChanged(graph);
+        }
+
         this.graph = graph;
         this.wrappedGraph = graph == null ? null:  new WrappedConduitNetwork(graph);
     }
@@ -82,6 +95,7 @@ public class ConduitGraphObject implements GraphObject<ConduitGraphContext>, Con
         this.connectionStates.put(direction, connectionState);
         ioStates.put(direction, IOState.of(connectionState.isInsert() ? connectionState.insertChannel() : null,
             connectionState.isExtract() ? connectionState.extractChannel() : null, connectionState.control(), connectionState.redstoneChannel()));
+        updateEndpoints(direction);
     }
 
     public Optional<IOState> getIOState(Direction direction) {
@@ -91,12 +105,50 @@ public class ConduitGraphObject implements GraphObject<ConduitGraphContext>, Con
 
     public void clearState(Direction direction) {
         ioStates.remove(direction);
+        updateEndpoints(direction);
+    }
+
+    private void updateEndpoints(Direction direction) {
+        if (graph != null && graph.getContextData() != null) {
+            graph.getContextData().endpointIndex().update(this, direction);
+        }
+    }
+
+    private static void onMembershipChanged(@Nullable Graph<ConduitGraphContext> graph) {
+        if (graph != null && graph.getContextData() != null) {
+            graph.getContextData().onMembershipChanged();
+        }
     }
 
     public BlockPos getPos() {
         return pos;
     }
 
+    // region Neighbour Capabilities
+
+    @Override
+    public <T> @Nullable T getNeighbourCapability(ServerLevel level, BlockCapability<T, Direction> capability, Direction direction) {
+        var caches = neighbourCapabilities.computeIfAbsent(capability, c -> new EnumMap<>(Direction.class));
+
+        var cache = caches.get(direction);
+        if (cache == null || cache.level() != level) {
+            cache = BlockCapabilityCache.create(capability, level, pos.relative(direction), direction.getOpposite());
+            caches.put(direction, cache);
+        }
+
+        //noinspection unchecked
+        return (T) cache.getCapability();
+    }
+
+    /**
+     * Drop all cached neighbour capabilities, used when the node is unloaded or removed.
+     */
+    public void clearNeighbourCapabilities() {
+        neighbourCapabilities.clear();
+    }
+
+    // endregion
+
     // region Conduit Data
 
     // We're implementing ConduitDataAccessor for ease here, but we just pass through to the container.
@@ -113,7 +165,13 @@ public class ConduitGraphObject implements GraphObject<ConduitGraphContext>, Con
 
     @Override
     public <T extends ConduitData<T>> T getOrCreateData(ConduitDataType<T> type) {
-        return conduitDataContainer.getOrCreateData(type);
+        T data = conduitDataContainer.getData(type);
+        if (data == null) {
+            data = conduitDataContainer.getOrCreateData(type);
+            markDataChanged();
+        }
+
+        return data;
     }
 
     public ConduitDataContainer conduitDataContainer() {
@@ -122,6 +180,25 @@ public class ConduitGraphObject implements GraphObject<ConduitGraphContext>, Con
 
     public void handleClientChanges(ConduitDataContainer clientDataContainer) {
         conduitDataContainer.handleClientChanges(clientDataContainer);
+        markDataChanged();
+    }
+
+    @Override
+    public void markDataChanged() {
+        if (graph != null && graph.getContextData() != null) {
+            graph.getContextData().markDataChanged();
+        }
+
+        if (dataChangedListener != null) {
+            dataChangedListener.run();
+        }
+    }
+
+    /**
+     * Set what to notify when this node's data changes, used by the owning bundle to sync it.
+     */
+    public void setDataChangedListener(@Nullable Runnable dataChangedListener) {
+        this.dataChangedListener = dataChangedListener;
     }
 
     // endregion
@@ -6,6 +6,7 @@ import dev.gigaherz.graph3.GraphObject;
 import net.minecraft.core.Holder;
 import net.minecraft.core.HolderLookup;
 import net.minecraft.nbt.CompoundTag;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.List;
 
@@ -14,16 +15,37 @@ public class ConduitGraphUtility {
     public static void integrate(Holder<Conduit<?>> conduit, GraphObject<ConduitGraphContext> graphObject,
         List<GraphObject<ConduitGraphContext>> neighbours) {
         Graph.integrate(graphObject, neighbours, Graph::new, g -> ConduitGraphContext.createNetworkContext());
+        markStructureChanged(graphObject.getGraph());
     }
 
     public static void integrateWithLoad(Holder<Conduit<?>> conduit, GraphObject<ConduitGraphContext> graphObject,
         List<GraphObject<ConduitGraphContext>> neighbours, HolderLookup.Provider lookupProvider, CompoundTag contextTag) {
         Graph.integrate(graphObject, neighbours, Graph::new, g -> ConduitGraphContext.loadNetworkContext(conduit, lookupProvider, contextTag));
+        markStructureChanged(graphObject.getGraph());
     }
 
     public static void connect(Holder<Conduit<?>> conduit, GraphObject<ConduitGraphContext> graphObject,
         GraphObject<ConduitGraphContext> neighbour) {
         Graph.connect(graphObject, neighbour, Graph::new, g -> ConduitGraphContext.createNetworkContext());
+
+        // Connecting two objects already in the same graph does not move anything, so membership tracking won't see it.
+        markStructureChanged(graphObject.getGraph());
+    }
+
+    public static void remove(GraphObject<ConduitGraphContext> graphObject) {
+        Graph<ConduitGraphContext> graph = graphObject.getGraph();
+        if (graph != null) {
+            graph.remove(graphObject);
+            if (graph.getContextData() != null) {
+                graph.getContextData().onMembershipChanged();
+            }
+        }
+    }
+
+    private static void markStructureChanged(@Nullable Graph<ConduitGraphContext> graph) {
+        if (graph != null && graph.getContextData() != null) {
+            graph.getContextData().markStructureChanged();
+        }
     }
 
 }
@@ -3,20 +3,22 @@ package com.enderio.conduits.common.conduit;
 import com.enderio.EnderIOBase;
 import com.enderio.conduits.api.EnderIOConduitsRegistries;
 import com.enderio.conduits.api.Conduit;
-import com.enderio.conduits.api.ticker.ConduitTicker;
 import com.enderio.conduits.EnderIOConduits;
 import com.enderio.conduits.common.conduit.block.ConduitBundleBlockEntity;
 import com.enderio.conduits.common.conduit.type.redstone.RedstoneConduitData;
+import com.enderio.conduits.common.config.ConduitsConfig;
 import com.enderio.conduits.common.init.ConduitTypes;
 import com.enderio.conduits.common.init.Conduits;
-import com.mojang.datafixers.util.Pair;
 import dev.gigaherz.graph3.Graph;
 import dev.gigaherz.graph3.GraphObject;
-import dev.gigaherz.graph3.Mergeable;
+import it.unimi.dsi.fastutil.ints.IntArrayFIFOQueue;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntList;
+import it.unimi.dsi.fastutil.objects.Reference2IntMap;
+import it.unimi.dsi.fastutil.objects.Reference2IntOpenHashMap;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Holder;
 import net.minecraft.core.HolderLookup;
-import net.minecraft.core.Registry;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.nbt.IntTag;
 import net.minecraft.nbt.ListTag;
@@ -45,6 +47,8 @@ public class ConduitSavedData extends SavedData {
 
     private final Map<Holder<Conduit<?>>, List<Graph<ConduitGraphContext>>> networks = new HashMap<>();
 
+    private final ConduitTickScheduler tickScheduler = new ConduitTickScheduler();
+
     // Used to find the NodeIdentifier(s) of a conduit when it is loaded
     private final Map<Holder<Conduit<?>>, Map<ChunkPos, Map<BlockPos, ConduitGraphObject>>> deserializedNodes = new HashMap<>();
 
@@ -67,6 +71,9 @@ public class ConduitSavedData extends SavedData {
 
     // Deserialization
     private ConduitSavedData(CompoundTag nbt, HolderLookup.Provider lookupProvider) {
+        long start = System.nanoTime();
+        int nodeCount = 0;
+
         ListTag graphsTag = nbt.getList(KEY_GRAPHS, Tag.TAG_COMPOUND);
         for (Tag tag : graphsTag) {
             CompoundTag typedGraphTag = (CompoundTag) tag;
@@ -79,22 +86,33 @@ public class ConduitSavedData extends SavedData {
 
             if (conduit.isPresent()) {
                 ListTag graphsForTypeTag = typedGraphTag.getList(KEY_GRAPHS, Tag.TAG_COMPOUND);
-                deserializeGraphs(lookupProvider, conduit.get(), graphsForTypeTag);
+                nodeCount += deserializeGraphs(lookupProvider, conduit.get(), graphsForTypeTag);
             } else {
                 EnderIOBase.LOGGER.warn("Skipping graph for missing conduit: " + conduitKey);
             }
         }
+
+        if (nodeCount > 0) {
+            double millis = (System.nanoTime() - start) / 1_000_000d;
+            EnderIOBase.LOGGER.debug("Loaded {} conduit nodes in {} ms ({} ms per 10k nodes)", nodeCount, String.format("%.2f", millis),
+                String.format("%.2f", millis * 10_000 / nodeCount));
+        }
     }
 
-    private void deserializeGraphs(HolderLookup.Provider lookupProvider, Holder<Conduit<?>> conduit, ListTag graphs) {
+    /**
+     * @return the number of nodes loaded.
+     */
+    private int deserializeGraphs(HolderLookup.Provider lookupProvider, Holder<Conduit<?>> conduit, ListTag graphs) {
+        int nodeCount = 0;
+
         for (Tag tag1 : graphs) {
             CompoundTag graphTag = (CompoundTag) tag1;
 
             ListTag graphObjectsTag = graphTag.getList(KEY_GRAPH_OBJECTS, Tag.TAG_COMPOUND);
             ListTag graphConnectionsTag = graphTag.getList(KEY_GRAPH_CONNECTIONS, Tag.TAG_COMPOUND);
 
-            List<ConduitGraphObject> graphObjects = new ArrayList<>();
-            List<Pair<ConduitGraphObject, ConduitGraphObject>> connections = new ArrayList<>();
+            List<ConduitGraphObject> graphObjects = new ArrayList<>(graphObjectsTag.size());
+            IntList[] adjacency = new IntList[graphObjectsTag.size()];
 
             for (int i = 0; i < graphObjectsTag.size(); i++) {
                 CompoundTag nodeTag = graphObjectsTag.getCompound(i);
@@ -103,24 +121,77 @@ public class ConduitSavedData extends SavedData {
                     .getOrThrow().getFirst();
 
                 graphObjects.add(node);
+                adjacency[i] = new IntArrayList(2);
                 putUnloadedNodeIdentifier(conduit, node.getPos(), node);
             }
 
+            if (graphObjects.isEmpty()) {
+                continue;
+            }
+
             for (Tag tag2 : graphConnectionsTag) {
                 CompoundTag connectionTag = (CompoundTag) tag2;
-                connections.add(new Pair<>(graphObjects.get(connectionTag.getInt("0")), graphObjects.get(connectionTag.getInt("1"))));
+                int first = connectionTag.getInt("0");
+                int second = connectionTag.getInt("1");
+                adjacency[first].add(second);
+                adjacency[second].add(first);
             }
 
-            ConduitGraphObject graphObject = graphObjects.get(0);
-            if (graphTag.contains(KEY_GRAPH_CONTEXT)) {
-                ConduitGraphUtility.integrateWithLoad(conduit, graphObject, List.of(), lookupProvider, graphTag.getCompound(KEY_GRAPH_CONTEXT));
+            CompoundTag contextTag = graphTag.contains(KEY_GRAPH_CONTEXT) ? graphTag.getCompound(KEY_GRAPH_CONTEXT) : null;
+            rebuildGraph(lookupProvider, conduit, graphObjects, adjacency, contextTag);
+            nodeCount += graphObjects.size();
+        }
+
+        return nodeCount;
+    }
+
+    /**
+     * Rebuild a saved graph in a single breadth-first pass.
+     * Each object joins the graph together with the neighbours already placed, so every connection is made once and no graphs are merged.
+     */
+    private void rebuildGraph(HolderLookup.Provider lookupProvider, Holder<Conduit<?>> conduit, List<ConduitGraphObject> graphObjects,
+        IntList[] adjacency, @Nullable CompoundTag contextTag) {
+
+        boolean[] placed = new boolean[graphObjects.size()];
+        IntArrayFIFOQueue queue = new IntArrayFIFOQueue();
+
+        for (int root = 0; root < graphObjects.size(); root++) {
+            if (placed[root]) {
+                continue;
+            }
+
+            // The saved context belongs to the first object's graph, anything not reachable from it starts fresh.
+            ConduitGraphObject rootObject = graphObjects.get(root);
+            if (root == 0 && contextTag != null) {
+                ConduitGraphUtility.integrateWithLoad(conduit, rootObject, List.of(), lookupProvider, contextTag);
             } else {
-                ConduitGraphUtility.integrate(conduit, graphObject, List.of());
+                ConduitGraphUtility.integrate(conduit, rootObject, List.of());
             }
 
-            merge(conduit, graphObject, connections);
+            placed[root] = true;
+            queue.enqueue(root);
+
+            while (!queue.isEmpty()) {
+                int index = queue.dequeueInt();
+                for (int neighbour : adjacency[index]) {
+                    if (placed[neighbour]) {
+                        continue;
+                    }
+
+                    List<GraphObject<ConduitGraphContext>> placedNeighbours = new ArrayList<>(adjacency[neighbour].size());
+                    for (int other : adjacency[neighbour]) {
+                        if (placed[other]) {
+                            placedNeighbours.add(graphObjects.get(other));
+                        }
+                    }
+
+                    ConduitGraphUtility.integrate(conduit, graphObjects.get(neighbour), placedNeighbours);
+                    placed[neighbour] = true;
+                    queue.enqueue(neighbour);
+                }
+            }
 
-            networks.computeIfAbsent(conduit, t -> new ArrayList<>()).add(graphObject.getGraph());
+            networks.computeIfAbsent(conduit, t -> new ArrayList<>()).add(rootObject.getGraph());
         }
     }
 
@@ -182,80 +253,85 @@ public class ConduitSavedData extends SavedData {
 
     @Override
     public boolean isDirty() {
-        return true;
+        if (super.isDirty()) {
+            return true;
+        }
+
+        for (var graphs : networks.values()) {
+            for (var graph : graphs) {
+                if (graph.getContextData().hasUnsavedChanges()) {
+                    return true;
+                }
+            }
+        }
+
+        return false;
     }
 
     private static CompoundTag serializeGraph(HolderLookup.Provider lookupProvider, Graph<ConduitGraphContext> graph) {
-        List<GraphObject<ConduitGraphContext>> graphObjects = new ArrayList<>(graph.getObjects());
-        List<Pair<GraphObject<ConduitGraphContext>, GraphObject<ConduitGraphContext>>> connections = new ArrayList<>();
-
         CompoundTag graphTag = new CompoundTag();
 
         var context = graph.getContextData();
-        if (context != null) {
-            CompoundTag tag = context.save(lookupProvider);
-            if (tag != null) {
-                graphTag.put(KEY_GRAPH_CONTEXT, tag);
-            }
+        CompoundTag contextTag = context.save(lookupProvider);
+        if (contextTag != null) {
+            graphTag.put(KEY_GRAPH_CONTEXT, contextTag);
+        }
+
+        // Only re-encode the objects and connections if something in them changed since the last save.
+        CompoundTag objectsTag = context.getSavedGraphTag();
+        if (objectsTag == null) {
+            objectsTag = serializeGraphObjects(lookupProvider, graph);
+            context.setSavedGraphTag(objectsTag);
         }
 
+        graphTag.put(KEY_GRAPH_OBJECTS, objectsTag.get(KEY_GRAPH_OBJECTS));
+        graphTag.put(KEY_GRAPH_CONNECTIONS, objectsTag.get(KEY_GRAPH_CONNECTIONS));
+        return graphTag;
+    }
+
+    private static CompoundTag serializeGraphObjects(HolderLookup.Provider lookupProvider, Graph<ConduitGraphContext> graph) {
+        List<GraphObject<ConduitGraphContext>> graphObjects = new ArrayList<>(graph.getObjects());
+        Reference2IntMap<GraphObject<ConduitGraphContext>> objectIndices = new Reference2IntOpenHashMap<>(graphObjects.size());
+        objectIndices.defaultReturnValue(-1);
+
         ListTag graphObjectsTag = new ListTag();
         ListTag graphConnectionsTag = new ListTag();
 
         for (GraphObject<ConduitGraphContext> graphObject : graphObjects) {
-            for (GraphObject<ConduitGraphContext> neighbour : graph.getNeighbours(graphObject)) {
-                var connection = new Pair<>(graphObject, neighbour);
-                if (!containsConnection(connections, connection)) {
-                    connections.add(connection);
-                }
-            }
-
             if (graphObject instanceof ConduitGraphObject conduitGraphObject) {
                 var tag = ConduitGraphObject.CODEC
                     .encodeStart(lookupProvider.createSerializationContext(NbtOps.INSTANCE), conduitGraphObject)
                     .getOrThrow();
 
+                objectIndices.put(graphObject, graphObjectsTag.size());
                 graphObjectsTag.add(tag);
             } else {
                 throw new ClassCastException("graphObject was not of type nodeIdentifier");
             }
         }
 
-        for (var connection : connections) {
-            CompoundTag connectionTag = new CompoundTag();
-
-            connectionTag.put("0", IntTag.valueOf(graphObjects.indexOf(connection.getFirst())));
-            connectionTag.put("1", IntTag.valueOf(graphObjects.indexOf(connection.getSecond())));
-
-            graphConnectionsTag.add(connectionTag);
+        for (GraphObject<ConduitGraphContext> graphObject : graphObjects) {
+            int index = objectIndices.getInt(graphObject);
+            for (GraphObject<ConduitGraphContext> neighbour : graph.getNeighbours(graphObject)) {
+                // Every connection is seen from both ends, only write it from the lower index.
+                int neighbourIndex = objectIndices.getInt(neighbour);
+                if (neighbourIndex > index) {
+                    CompoundTag connectionTag = new CompoundTag();
+                    connectionTag.put("0", IntTag.valueOf(index));
+                    connectionTag.put("1", IntTag.valueOf(neighbourIndex));
+                    graphConnectionsTag.add(connectionTag);
+                }
+            }
         }
 
-        graphTag.put(KEY_GRAPH_OBJECTS, graphObjectsTag);
-        graphTag.put(KEY_GRAPH_CONNECTIONS, graphConnectionsTag);
-
-        return graphTag;
+        CompoundTag objectsTag = new CompoundTag();
+        objectsTag.put(KEY_GRAPH_OBJECTS, graphObjectsTag);
+        objectsTag.put(KEY_GRAPH_CONNECTIONS, graphConnectionsTag);
+        return objectsTag;
     }
 
     // endregion
 
-    private void merge(Holder<Conduit<?>> conduit, GraphObject<ConduitGraphContext> object, List<Pair<ConduitGraphObject, ConduitGraphObject>> connections) {
-        var filteredConnections = connections.stream().filter(pair -> (pair.getFirst() == object || pair.getSecond() == object)).toList();
-
-        List<? extends ConduitGraphObject> neighbors = filteredConnections
-            .stream()
-            .map(pair -> pair.getFirst() == object ? pair.getSecond() : pair.getFirst())
-            .toList();
-
-        for (var neighbor : neighbors) {
-            ConduitGraphUtility.connect(conduit, object, neighbor);
-        }
-
-        connections = connections.stream().filter(v -> !filteredConnections.contains(v)).toList();
-        if (!connections.isEmpty()) {
-            merge(conduit, connections.get(0).getFirst(), connections);
-        }
-    }
-
     @Nullable
     public ConduitGraphObject takeUnloadedNodeIdentifier(Holder<Conduit<?>> conduit, BlockPos pos) {
         ChunkPos chunkPos = new ChunkPos(pos);
@@ -291,11 +367,6 @@ public class ConduitSavedData extends SavedData {
         chunkMap.put(pos, node);
     }
 
-    private static <T extends Mergeable<T>> boolean containsConnection(List<Pair<GraphObject<T>, GraphObject<T>>> connections,
-        Pair<GraphObject<T>, GraphObject<T>> connection) {
-        return connections.contains(connection) || connections.contains(connection.swap());
-    }
-
     @SubscribeEvent
     public static void onLevelTick(LevelTickEvent.Post event) {
         if (event.getLevel() instanceof ServerLevel serverLevel) {
@@ -304,29 +375,19 @@ public class ConduitSavedData extends SavedData {
     }
 
     private void tick(ServerLevel serverLevel) {
-        setDirty();
         for (var entry: networks.entrySet()) {
-            entry.getValue().removeIf(graph -> graph.getObjects().isEmpty() || graph.getObjects().iterator().next().getGraph() != graph);
+            entry.getValue().removeIf(graph -> !ConduitTickScheduler.isLive(graph));
         }
 
-        Registry<Conduit<?>> conduitRegistry = serverLevel.registryAccess().registryOrThrow(EnderIOConduitsRegistries.Keys.CONDUIT);
-
+        long gameTime = serverLevel.getGameTime();
         for (var entry : networks.entrySet()) {
-            var conduit = entry.getKey();
-            int conduitId = conduitRegistry.getId(conduit.value());
-            var conduitTicker = conduit.value().getTicker();
-
             for (var graph : entry.getValue()) {
-                tickConduitGraph(serverLevel, entry.getKey(), conduitId, conduitTicker, graph);
+                tickScheduler.scheduleIfDue(gameTime, entry.getKey(), graph);
             }
         }
-    }
 
-    private <T extends Conduit<T>> void tickConduitGraph(ServerLevel serverLevel, Holder<Conduit<?>> conduit, int conduitId, ConduitTicker<T> ticker, Graph<ConduitGraphContext> graph) {
-        if (serverLevel.getGameTime() % ticker.getTickRate() == conduitId % ticker.getTickRate()) {
-            //noinspection unchecked
-            ticker.tickGraph(serverLevel, (T)conduit.value(), new WrappedConduitNetwork(graph), ConduitSavedData::isRedstoneActive);
-        }
+        long budgetNanos = (long) (ConduitsConfig.COMMON.NETWORK_TICK_BUDGET.get() * 1_000_000);
+        tickScheduler.run(serverLevel, budgetNanos, ConduitSavedData::isRedstoneActive);
     }
 
     private static boolean isRedstoneActive(ServerLevel serverLevel, BlockPos pos, DyeColor color) {
@@ -9,6 +9,7 @@ import net.minecraft.core.Holder;
 import net.minecraft.core.Vec3i;
 import net.minecraft.util.Mth;
 import net.minecraft.world.level.block.Block;
+import net.minecraft.world.phys.AABB;
 import net.minecraft.world.phys.HitResult;
 import net.minecraft.world.phys.Vec3;
 import net.minecraft.world.phys.shapes.BooleanOp;
@@ -17,17 +18,25 @@ import net.minecraft.world.phys.shapes.VoxelShape;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class ConduitShape {
-    private final Map<Holder<Conduit<?>>, VoxelShape> conduitShapes = new HashMap<>();
-    private final Map<Direction, VoxelShape> directionShapes = new HashMap<>();
     private static final VoxelShape CONNECTOR = Block.box(2.5f, 2.5, 15f, 13.5f, 13.5f, 16f);
     public static final VoxelShape CONNECTION = Block.box(6.5f, 6.5f, 9.5, 9.5f, 9.5f, 16);
     private static final VoxelShape CORE = Block.box(6.5f, 6.5f, 6.5f, 9.5f, 9.5f, 9.5f);
+
+    // Shapes only depend on the layout of the bundle, so they are shared between all conduit blocks.
+    private static final Map<ConduitShapeKey, CachedShape> CONDUIT_SHAPE_CACHE = new ConcurrentHashMap<>();
+    private static final Map<DirectionShapeKey, CachedShape> DIRECTION_SHAPE_CACHE = new ConcurrentHashMap<>();
+    private static final Map<List<ConduitShapeKey>, VoxelShape> TOTAL_SHAPE_CACHE = new ConcurrentHashMap<>();
+
+    private final Map<Holder<Conduit<?>>, CachedShape> conduitShapes = new HashMap<>();
+    private final Map<Direction, CachedShape> directionShapes = new EnumMap<>(Direction.class);
     private VoxelShape totalShape = CORE;
 
     public ConduitShape() {
@@ -37,14 +46,37 @@ public class ConduitShape {
     public void updateConduit(ConduitBundle bundle) {
         this.conduitShapes.clear();
         this.directionShapes.clear();
+
+        Direction.Axis axis = OffsetHelper.findMainAxis(bundle);
+        Map<Direction, List<Holder<Conduit<?>>>> connectedConduits = new EnumMap<>(Direction.class);
+        for (Direction direction : Direction.values()) {
+            List<Holder<Conduit<?>>> connectedTypes = bundle.getConnectedConduits(direction);
+            connectedConduits.put(direction, connectedTypes);
+
+            boolean hasConnector = false;
+            for (Holder<Conduit<?>> conduit : bundle.getConduits()) {
+                if (bundle.getConnectionState(direction, conduit) instanceof DynamicConnectionState) {
+                    hasConnector = true;
+                    break;
+                }
+            }
+
+            DirectionShapeKey key = new DirectionShapeKey(direction, hasConnector, connectedTypes.size());
+            directionShapes.put(direction, DIRECTION_SHAPE_CACHE.computeIfAbsent(key, ConduitShape::createDirectionShape));
+        }
+
+        List<ConduitShapeKey> keys = new ArrayList<>();
         for (Holder<Conduit<?>> conduit : bundle.getConduits()) {
-            updateShapeForConduit(bundle, conduit);
+            ConduitShapeKey key = createKey(bundle, conduit, axis, connectedConduits);
+            keys.add(key);
+            conduitShapes.put(conduit, CONDUIT_SHAPE_CACHE.computeIfAbsent(key, ConduitShape::createConduitShape));
         }
-        updateTotalShape();
+
+        this.totalShape = TOTAL_SHAPE_CACHE.computeIfAbsent(List.copyOf(keys), ConduitShape::createTotalShape);
     }
 
     public VoxelShape getShapeFromHit(BlockPos pos, HitResult result) {
-        return Optional.ofNullable(this.conduitShapes.get(getConduit(pos, result))).orElse(Shapes.empty());
+        return Optional.ofNullable(this.conduitShapes.get(getConduit(pos, result))).map(CachedShape::shape).orElse(Shapes.empty());
     }
 
     @Nullable
@@ -58,15 +90,10 @@ public class ConduitShape {
     }
 
     @Nullable
-    private <T> T getLookUpValue(Map<T, VoxelShape> shapes, BlockPos pos, HitResult result) {
-        for (Map.Entry<T, VoxelShape> entry : shapes.entrySet()) {
-            Vec3 vec3 = result.getLocation().subtract(pos.getX(), pos.getY(), pos.getZ());
-            Optional<Vec3> point = entry.getValue().closestPointTo(vec3);
-            if (point.isEmpty()) {
-                continue;
-            }
-
-            if (point.get().closerThan(vec3, Mth.EPSILON)) { // can't be 0 due to double
+    private <T> T getLookUpValue(Map<T, CachedShape> shapes, BlockPos pos, HitResult result) {
+        Vec3 vec3 = result.getLocation().subtract(pos.getX(), pos.getY(), pos.getZ());
+        for (Map.Entry<T, CachedShape> entry : shapes.entrySet()) {
+            if (entry.getValue().contains(vec3)) {
                 return entry.getKey();
             }
         }
@@ -74,85 +101,104 @@ public class ConduitShape {
         return null;
     }
 
-    private void updateTotalShape() {
-        this.totalShape = Shapes.empty();
-        this.conduitShapes.values().forEach(s -> this.totalShape = Shapes.joinUnoptimized(this.totalShape, s, BooleanOp.OR));
-        totalShape.optimize();
-    }
-
     public VoxelShape getTotalShape() {
         return this.totalShape;
     }
 
-    private void updateShapeForConduit(ConduitBundle conduitBundle, Holder<Conduit<?>> conduit) {
-        VoxelShape conduitShape = Shapes.empty();
-        Direction.Axis axis = OffsetHelper.findMainAxis(conduitBundle);
-        Map<Holder<Conduit<?>>, List<Vec3i>> offsets = new HashMap<>();
+    private static VoxelShape createTotalShape(List<ConduitShapeKey> keys) {
+        VoxelShape shape = Shapes.empty();
+        for (ConduitShapeKey key : keys) {
+            shape = Shapes.joinUnoptimized(shape, CONDUIT_SHAPE_CACHE.computeIfAbsent(key, ConduitShape::createConduitShape).shape(), BooleanOp.OR);
+        }
+
+        return shape.optimize();
+    }
+
+    private static ConduitShapeKey createKey(ConduitBundle conduitBundle, Holder<Conduit<?>> conduit, Direction.Axis axis,
+        Map<Direction, List<Holder<Conduit<?>>>> connectedConduits) {
+
+        int connectorMask = 0;
+        long connections = 0;
         for (Direction direction : Direction.values()) {
-            VoxelShape directionShape = directionShapes.getOrDefault(direction, Shapes.empty());
             if (conduitBundle.getConnectionState(direction, conduit) instanceof DynamicConnectionState) {
-                VoxelShape connectorShape = rotateVoxelShape(CONNECTOR, direction);
-                directionShape = Shapes.joinUnoptimized(directionShape, connectorShape, BooleanOp.OR);
-                conduitShape = Shapes.joinUnoptimized(conduitShape, connectorShape, BooleanOp.OR);
+                connectorMask |= 1 << direction.get3DDataValue();
             }
-            var connectedTypes = conduitBundle.getConnectedConduits(direction);
-            if (connectedTypes.contains(conduit)) {
-                Vec3i offset = OffsetHelper.translationFor(direction.getAxis(),
-                    OffsetHelper.offsetConduit(connectedTypes.indexOf(conduit), connectedTypes.size()));
-                offsets.computeIfAbsent(conduit, ignored -> new ArrayList<>()).add(offset);
-                VoxelShape connectionShape = rotateVoxelShape(CONNECTION, direction).move(offset.getX() * 3f / 16f, offset.getY() * 3f / 16f,
-                    offset.getZ() * 3f / 16f);
-                directionShape = Shapes.joinUnoptimized(directionShape, connectionShape, BooleanOp.OR);
-                conduitShape = Shapes.joinUnoptimized(conduitShape, connectionShape, BooleanOp.OR);
+
+            var connectedTypes = connectedConduits.get(direction);
+            int index = connectedTypes.indexOf(conduit);
+            if (index != -1) {
+                // 4 bits each for the index and the count, which are both at most MAX_CONDUITS.
+                connections |= (long) (index << 4 | connectedTypes.size()) << (direction.get3DDataValue() * 8);
             }
-            directionShapes.put(direction, directionShape.optimize());
         }
 
         var allConduits = conduitBundle.getConduits();
-        @Nullable Area box = null;
-        @Nullable Holder<Conduit<?>> notRendered = null;
-        int i = allConduits.indexOf(conduit);
-        if (i == -1) {
-            conduitShapes.put(conduit, Shapes.block());
-            return;
+        return new ConduitShapeKey(allConduits.indexOf(conduit), allConduits.size(), axis, connectorMask, connections);
+    }
+
+    private static CachedShape createDirectionShape(DirectionShapeKey key) {
+        VoxelShape directionShape = Shapes.empty();
+        if (key.hasConnector()) {
+            directionShape = Shapes.joinUnoptimized(directionShape, rotateVoxelShape(CONNECTOR, key.direction()), BooleanOp.OR);
         }
 
-        var type = allConduits.get(i);
-        @Nullable List<Vec3i> offsetsForConduit = offsets.get(type);
-        if (offsetsForConduit != null) {
+        for (int i = 0; i < key.connectedCount(); i++) {
+            Vec3i offset = OffsetHelper.translationFor(key.direction().getAxis(), OffsetHelper.offsetConduit(i, key.connectedCount()));
+            directionShape = Shapes.joinUnoptimized(directionShape, connectionShape(key.direction(), offset), BooleanOp.OR);
+        }
+
+        return CachedShape.of(directionShape.optimize());
+    }
+
+    private static CachedShape createConduitShape(ConduitShapeKey key) {
+        if (key.index() == -1) {
+            return CachedShape.of(Shapes.block());
+        }
+
+        VoxelShape conduitShape = Shapes.empty();
+        List<Vec3i> offsetsForConduit = new ArrayList<>();
+        for (Direction direction : Direction.values()) {
+            if (key.hasConnector(direction)) {
+                conduitShape = Shapes.joinUnoptimized(conduitShape, rotateVoxelShape(CONNECTOR, direction), BooleanOp.OR);
+            }
+
+            int connectedCount = key.connectedCount(direction);
+            if (connectedCount > 0) {
+                Vec3i offset = OffsetHelper.translationFor(direction.getAxis(), OffsetHelper.offsetConduit(key.connectedIndex(direction), connectedCount));
+                offsetsForConduit.add(offset);
+                conduitShape = Shapes.joinUnoptimized(conduitShape, connectionShape(direction, offset), BooleanOp.OR);
+            }
+        }
+
+        @Nullable Area box = null;
+        boolean notRendered = offsetsForConduit.isEmpty();
+        if (!notRendered) {
             //all are pointing to the same xyz reference meaning that we can draw the core
             if (offsetsForConduit.stream().distinct().count() != 1) {
                 box = new Area(offsetsForConduit.toArray(new Vec3i[0]));
             }
-        } else {
-            notRendered = type;
         }
 
-        if (offsetsForConduit != null && (box == null || !box.contains(offsetsForConduit.get(0)))) {
-            conduitShape = Shapes.joinUnoptimized(conduitShape,
-                CORE.move(offsetsForConduit.get(0).getX() * 3f / 16f, offsetsForConduit.get(0).getY() * 3f / 16f, offsetsForConduit.get(0).getZ() * 3f / 16f),
-                BooleanOp.OR);
+        if (!notRendered && (box == null || !box.contains(offsetsForConduit.get(0)))) {
+            conduitShape = Shapes.joinUnoptimized(conduitShape, coreShape(offsetsForConduit.get(0)), BooleanOp.OR);
         }
 
         if (box != null) {
-            if (notRendered != null) {
-                Vec3i offset = OffsetHelper.translationFor(axis, OffsetHelper.offsetConduit(i, allConduits.size()));
-                if (!box.contains(offset)) {
-                    conduitShape = Shapes.joinUnoptimized(conduitShape, CORE.move(offset.getX() * 3f / 16f, offset.getY() * 3f / 16f, offset.getZ() * 3f / 16f),
-                        BooleanOp.OR);
-                }
-            }
-
-            conduitShape = Shapes.joinUnoptimized(conduitShape, CORE.move(box.getMin().getX() * 3f / 16f, box.getMin().getY() * 3f / 16f, box.getMin().getZ() * 3f / 16f),
-                BooleanOp.OR);
-        } else {
-            if (notRendered != null) {
-                Vec3i offset = OffsetHelper.translationFor(axis, OffsetHelper.offsetConduit(i, allConduits.size()));
-                conduitShape = Shapes.joinUnoptimized(conduitShape, CORE.move(offset.getX() * 3f / 16f, offset.getY() * 3f / 16f, offset.getZ() * 3f / 16f), BooleanOp.OR);
-            }
+            conduitShape = Shapes.joinUnoptimized(conduitShape, coreShape(box.getMin()), BooleanOp.OR);
+        } else if (notRendered) {
+            Vec3i offset = OffsetHelper.translationFor(key.axis(), OffsetHelper.offsetConduit(key.index(), key.bundleSize()));
+            conduitShape = Shapes.joinUnoptimized(conduitShape, coreShape(offset), BooleanOp.OR);
         }
 
-        conduitShapes.put(conduit, conduitShape.optimize());
+        return CachedShape.of(conduitShape.optimize());
+    }
+
+    private static VoxelShape connectionShape(Direction direction, Vec3i offset) {
+        return rotateVoxelShape(CONNECTION, direction).move(offset.getX() * 3f / 16f, offset.getY() * 3f / 16f, offset.getZ() * 3f / 16f);
+    }
+
+    private static VoxelShape coreShape(Vec3i offset) {
+        return CORE.move(offset.getX() * 3f / 16f, offset.getY() * 3f / 16f, offset.getZ() * 3f / 16f);
     }
 
     /**
@@ -185,4 +231,46 @@ public class ConduitShape {
         return buffer[0];
     }
 
+    /**
+     * The layout of a single conduit within its bundle.
+     * @param connections the index and count of the connected conduits for each direction, 8 bits per direction. A count of 0 means not connected.
+     */
+    private record ConduitShapeKey(int index, int bundleSize, Direction.Axis axis, int connectorMask, long connections) {
+        boolean hasConnector(Direction direction) {
+            return (connectorMask & (1 << direction.get3DDataValue())) != 0;
+        }
+
+        int connectedIndex(Direction direction) {
+            return (int) (connections >>> (direction.get3DDataValue() * 8 + 4)) & 0xF;
+        }
+
+        int connectedCount(Direction direction) {
+            return (int) (connections >>> (direction.get3DDataValue() * 8)) & 0xF;
+        }
+    }
+
+    private record DirectionShapeKey(Direction direction, boolean hasConnector, int connectedCount) {
+    }
+
+    /**
+     * An optimized shape along with its boxes, so hit lookups don't need to search the shape.
+     */
+    private record CachedShape(VoxelShape shape, List<AABB> boxes) {
+        static CachedShape of(VoxelShape shape) {
+            return new CachedShape(shape, List.copyOf(shape.toAabbs()));
+        }
+
+        // Points on the surface count as inside, the hit location is never exactly on it due to double precision.
+        boolean contains(Vec3 point) {
+            for (AABB box : boxes) {
+                if (point.x >= box.minX - Mth.EPSILON && point.x <= box.maxX + Mth.EPSILON
+                    && point.y >= box.minY - Mth.EPSILON && point.y <= box.maxY + Mth.EPSILON
+                    && point.z >= box.minZ - Mth.EPSILON && point.z <= box.maxZ + Mth.EPSILON) {
+                    return true;
+                }
+            }
+
+            return false;
+        }
+    }
 }
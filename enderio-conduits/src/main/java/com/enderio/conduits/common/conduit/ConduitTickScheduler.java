@@ -0,0 +1,87 @@
+package com.enderio.conduits.common.conduit;
+
+import com.enderio.conduits.api.ColoredRedstoneProvider;
+import com.enderio.conduits.api.Conduit;
+import com.enderio.conduits.api.ticker.ConduitTicker;
+import dev.gigaherz.graph3.Graph;
+import net.minecraft.core.Holder;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.util.Mth;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.Set;
+
+/**
+ * Spreads conduit graph ticks across the ticker's tick rate and limits how long they may take per level tick.
+ * Graphs that don't fit in the budget stay queued and are ticked first on the next level tick.
+ */
+public class ConduitTickScheduler {
+
+    private final Deque<Task> pending = new ArrayDeque<>();
+    private final Set<Graph<ConduitGraphContext>> pendingGraphs = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    /**
+     * Queue the graph if this is its tick. Graphs still waiting from a previous tick are not queued twice.
+     */
+    public void scheduleIfDue(long gameTime, Holder<Conduit<?>> conduit, Graph<ConduitGraphContext> graph) {
+        int tickRate = Math.max(1, conduit.value().getTicker().getTickRate());
+        if (Math.floorMod(gameTime, tickRate) != getTickSlot(graph, tickRate)) {
+            return;
+        }
+
+        if (pendingGraphs.add(graph)) {
+            pending.add(new Task(conduit, graph));
+        }
+    }
+
+    /**
+     * Tick queued graphs until the queue is empty or the budget is used up.
+     * At least one graph is always ticked so the queue cannot stall.
+     * @param budgetNanos the time available this tick, or 0 for no limit.
+     */
+    public void run(ServerLevel level, long budgetNanos, ColoredRedstoneProvider coloredRedstoneProvider) {
+        long start = System.nanoTime();
+
+        while (!pending.isEmpty()) {
+            Task task = pending.poll();
+            pendingGraphs.remove(task.graph());
+
+            if (!isLive(task.graph())) {
+                continue;
+            }
+
+            long taskStart = System.nanoTime();
+            tickGraph(level, task.conduit(), task.conduit().value().getTicker(), task.graph(), coloredRedstoneProvider);
+            long end = System.nanoTime();
+
+            task.graph().getContextData().recordTickTime(end - taskStart);
+
+            if (budgetNanos > 0 && end - start >= budgetNanos) {
+                break;
+            }
+        }
+    }
+
+    private static <T extends Conduit<T>> void tickGraph(ServerLevel level, Holder<Conduit<?>> conduit, ConduitTicker<T> ticker,
+        Graph<ConduitGraphContext> graph, ColoredRedstoneProvider coloredRedstoneProvider) {
+        //noinspection unchecked
+        ticker.tickGraph(level, (T)conduit.value(), new WrappedConduitNetwork(graph), coloredRedstoneProvider);
+    }
+
+    /**
+     * @return whether the graph still has objects and has not been merged into another graph.
+     */
+    public static boolean isLive(Graph<ConduitGraphContext> graph) {
+        return !graph.getObjects().isEmpty() && graph.getObjects().iterator().next().getGraph() == graph;
+    }
+
+    private static int getTickSlot(Graph<ConduitGraphContext> graph, int tickRate) {
+        return Math.floorMod(Mth.murmurHash3Mixer(System.identityHashCode(graph)), tickRate);
+    }
+
+    private record Task(Holder<Conduit<?>> conduit, Graph<ConduitGraphContext> graph) {
+    }
+}
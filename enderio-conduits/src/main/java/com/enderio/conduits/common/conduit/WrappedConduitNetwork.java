@@ -4,10 +4,13 @@ import com.enderio.conduits.api.ConduitNetwork;
 import com.enderio.conduits.api.ConduitNetworkContext;
 import com.enderio.conduits.api.ConduitNetworkContextType;
 import com.enderio.conduits.api.ConduitNode;
+import com.enderio.conduits.api.ticker.IOAwareConduitTicker;
 import dev.gigaherz.graph3.Graph;
+import net.minecraft.world.item.DyeColor;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.Collection;
+import java.util.List;
 
 /**
  * Wrap the graph for public API consumption.
@@ -16,10 +19,32 @@ public record WrappedConduitNetwork(Graph<ConduitGraphContext> graph) implements
 
     @Override
     public Collection<ConduitNode> getNodes() {
-        //noinspection unchecked
-        return graph.getObjects().stream()
-            .map(object -> (ConduitNode) object)
-            .toList();
+        return graph.getContextData().nodes(graph);
+    }
+
+    @Override
+    public int size() {
+        return graph.getObjects().size();
+    }
+
+    @Override
+    public List<IOAwareConduitTicker.Connection> getInsertConnections(DyeColor color) {
+        return graph.getContextData().endpointIndex(graph).getInserts(color);
+    }
+
+    @Override
+    public List<IOAwareConduitTicker.Connection> getExtractConnections(DyeColor color) {
+        return graph.getContextData().endpointIndex(graph).getExtracts(color);
+    }
+
+    @Override
+    public long getConnectionsVersion() {
+        return graph.getContextData().endpointIndex().version();
+    }
+
+    @Override
+    public void markContextChanged() {
+        graph.getContextData().markContextChanged();
     }
 
     @Override
@@ -135,6 +135,7 @@ public class ConduitBundleBlock extends Block implements EntityBlock, SimpleWate
     public void neighborChanged(BlockState state, Level level, BlockPos pos, Block block, BlockPos fromPos, boolean isMoving) {
         if (level.getBlockEntity(pos) instanceof ConduitBundleBlockEntity conduit) {
             conduit.updateConnections(level, pos, fromPos, true);
+            conduit.onNeighborChanged(fromPos);
         }
 
         super.neighborChanged(state, level, pos, block, fromPos, isMoving);
@@ -544,7 +545,7 @@ public class ConduitBundleBlock extends Block implements EntityBlock, SimpleWate
             }
 
             RedstoneConduitData data = conduitBundle.getNodeFor(redstoneConduit).getData(ConduitTypes.Data.REDSTONE.get());
-            return getSignalOutput(dyn, Objects.requireNonNull(data));
+            return getSignalOutput(dyn, direction.getOpposite(), Objects.requireNonNull(data));
         }
 
         return 0;
@@ -558,9 +559,9 @@ public class ConduitBundleBlock extends Block implements EntityBlock, SimpleWate
 
     //@formatter:on
 
-    private int getSignalOutput(DynamicConnectionState connectionState, RedstoneConduitData data) {
+    private int getSignalOutput(DynamicConnectionState connectionState, Direction direction, RedstoneConduitData data) {
         if (connectionState.filterInsert().getCapability(EIOCapabilities.Filter.ITEM) instanceof RedstoneInsertFilter filter) {
-            return filter.getOutputSignal(data, connectionState.insertChannel());
+            return filter.getOutputSignal(data, direction, connectionState.insertChannel());
         }
         return data.getSignal(connectionState.insertChannel());
     }
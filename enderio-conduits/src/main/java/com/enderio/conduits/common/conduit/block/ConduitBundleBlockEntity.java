@@ -4,6 +4,7 @@ import com.enderio.base.api.UseOnly;
 import com.enderio.base.api.filter.ResourceFilter;
 import com.enderio.conduits.api.Conduit;
 import com.enderio.conduits.api.ConduitMenuData;
+import com.enderio.conduits.api.ConduitType;
 import com.enderio.conduits.api.ConduitNode;
 import com.enderio.conduits.api.SlotType;
 import com.enderio.conduits.api.upgrade.ConduitUpgrade;
@@ -27,6 +28,7 @@ import com.enderio.conduits.common.init.ConduitBlockEntities;
 import com.enderio.conduits.common.init.ConduitCapabilities;
 import com.enderio.conduits.common.menu.ConduitMenu;
 import com.enderio.core.common.blockentity.EnderBlockEntity;
+import com.enderio.core.common.network.NetworkDataSlot;
 import dev.gigaherz.graph3.Graph;
 import dev.gigaherz.graph3.GraphObject;
 import me.liliandev.ensure.ensures.EnsureSide;
@@ -77,6 +79,9 @@ public class ConduitBundleBlockEntity extends EnderBlockEntity {
     public static final ModelProperty<BlockPos> POS = new ModelProperty<>();
     public static final String CONDUIT_INV_KEY = "ConduitInv";
 
+    // Conduit types whose core model is drawn from their node data, set by the client once its model modifiers are registered.
+    private static volatile Set<ConduitType<?>> dataModelledTypes = Set.of();
+
     private final ConduitShape shape = new ConduitShape();
 
     private ConduitBundle bundle;
@@ -93,8 +98,8 @@ public class ConduitBundleBlockEntity extends EnderBlockEntity {
         super(ConduitBlockEntities.CONDUIT.get(), worldPosition, blockState);
         bundle = new ConduitBundle(this::scheduleTick, worldPosition);
 
-        addDataSlot(ConduitBundle.DATA_SLOT_TYPE.create(this::getBundle, b -> bundle = b));
-        addAfterSyncRunnable(this::updateClient);
+        addDataSlot(new NetworkDataSlot<>(ConduitBundle.DATA_SLOT_TYPE, this::getBundle, b -> bundle = b, ConduitBundle::getVersion));
+        addAfterSyncRunnable(this::onClientSync);
     }
 
     public ConduitBundle getBundle() {
@@ -120,6 +125,28 @@ public class ConduitBundleBlockEntity extends EnderBlockEntity {
 
     // region Network Sync
 
+    /**
+     * Bundle updates are applied in place, only rebuild the shape and model if something visible changed.
+     */
+    private void onClientSync() {
+        if (level == null || !level.isClientSide) {
+            return;
+        }
+
+        ConduitBundle.SyncChanges changes = bundle.getLastSyncChanges();
+        if (changes.isVisual() || changes.nodeData().stream().anyMatch(conduit -> dataModelledTypes.contains(conduit.value().type()))) {
+            updateClient();
+        }
+    }
+
+    /**
+     * Set the conduit types whose model changes with their node data, so node data syncs for them rebuild the model.
+     */
+    @UseOnly(LogicalSide.CLIENT)
+    public static void setDataModelledTypes(Set<ConduitType<?>> types) {
+        dataModelledTypes = Set.copyOf(types);
+    }
+
     /**
      * Handle a connection state update from the client.
      */
@@ -145,6 +172,7 @@ public class ConduitBundleBlockEntity extends EnderBlockEntity {
     public void handleConduitDataUpdate(Holder<Conduit<?>> conduit, ConduitDataContainer clientDataContainer) {
         var node = getBundle().getNodeFor(conduit);
         node.handleClientChanges(clientDataContainer);
+        conduit.value().onClientDataChanged(node);
     }
 
     // endregion
@@ -207,6 +235,7 @@ public class ConduitBundleBlockEntity extends EnderBlockEntity {
     private void onChunkUnloaded(ConduitSavedData savedData, Holder<Conduit<?>> conduit) {
         var node = bundle.getNodeFor(conduit);
         conduit.value().onRemoved(node, level, getBlockPos());
+        node.clearNeighbourCapabilities();
         savedData.putUnloadedNodeIdentifier(conduit, this.worldPosition, node);
     }
 
@@ -394,6 +423,14 @@ public class ConduitBundleBlockEntity extends EnderBlockEntity {
         }
     }
 
+    public void onNeighborChanged(BlockPos fromPos) {
+        if (level != null && !level.isClientSide) {
+            for (Holder<Conduit<?>> conduit : bundle.getConduits()) {
+                conduit.value().onNeighborChanged(bundle.getNodeFor(conduit), level, getBlockPos(), fromPos);
+            }
+        }
+    }
+
     /**
      * sets block to air if this is the last conduit
      */
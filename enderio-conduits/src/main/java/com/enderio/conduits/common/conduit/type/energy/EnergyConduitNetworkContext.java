@@ -1,31 +1,57 @@
 package com.enderio.conduits.common.conduit.type.energy;
 
+import com.enderio.conduits.api.ConduitNetwork;
 import com.enderio.conduits.api.ConduitNetworkContext;
 import com.enderio.conduits.api.ConduitNetworkContextType;
+import com.enderio.conduits.api.ConduitNode;
+import com.enderio.conduits.api.ticker.IOAwareConduitTicker;
 import com.enderio.conduits.common.init.Conduits;
 import com.mojang.serialization.Codec;
 import com.mojang.serialization.codecs.RecordCodecBuilder;
+import net.minecraft.core.Direction;
+import net.minecraft.world.item.DyeColor;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
 
 public class EnergyConduitNetworkContext implements ConduitNetworkContext<EnergyConduitNetworkContext> {
 
     public static final Codec<EnergyConduitNetworkContext> CODEC = RecordCodecBuilder.create(
         builder -> builder.group(
-            Codec.INT.fieldOf("energy_stored").forGetter(i -> i.energyStored),
+            Codec.LONG.fieldOf("energy_stored").forGetter(i -> i.energyStored),
             Codec.INT.fieldOf("rotating_index").forGetter(i -> i.rotatingIndex)
         ).apply(builder, EnergyConduitNetworkContext::new)
     );
 
-    private int energyStored = 0;
+    // Receivers that recently had no demand wait this many ticks before being asked again, doubling each time up to the maximum.
+    private static final int MIN_BACKOFF_TICKS = 1;
+    private static final int MAX_BACKOFF_TICKS = 20;
+
+    // Capacity grows by a quarter of the transfer rate per node.
+    private static final int ENERGY_BUFFER_SCALER = 4;
+
+    private long energyStored = 0;
     private int rotatingIndex = 0;
 
+    // Capacity only depends on the node count, so it is recomputed when nodes are added or removed rather than on every query.
+    private int capacityNodeCount = -1;
+    private int capacityTransferRate;
+    private long capacity;
+
+    // Not saved, receivers are simply asked again after a reload.
+    private final Map<Endpoint, Backoff> backoffs = new HashMap<>();
+    private long backoffsConnectionsVersion = -1;
+
     public EnergyConduitNetworkContext() {
     }
 
-    public EnergyConduitNetworkContext(int energyStored) {
+    public EnergyConduitNetworkContext(long energyStored) {
         this.energyStored = energyStored;
     }
 
-    public EnergyConduitNetworkContext(int energyStored, int rotatingIndex) {
+    public EnergyConduitNetworkContext(long energyStored, int rotatingIndex) {
         this.energyStored = energyStored;
         this.rotatingIndex = rotatingIndex;
     }
@@ -33,14 +59,28 @@ public class EnergyConduitNetworkContext implements ConduitNetworkContext<Energy
     /**
      * @implNote Never trust the value stored here, always Min it with the capacity. When the graph splits, this will just be copied across all sides.
      */
-    public int energyStored() {
+    public long energyStored() {
         return energyStored;
     }
 
-    public void setEnergyStored(int energyStored) {
+    public void setEnergyStored(long energyStored) {
         this.energyStored = energyStored;
     }
 
+    /**
+     * Capacity is the transfer rate plus a quarter of it per node.
+     * This ensures at least the transfer rate of the cable is available, but capacity doesn't grow outrageously.
+     */
+    public long getCapacity(int transferRate, int nodeCount) {
+        if (nodeCount != capacityNodeCount || transferRate != capacityTransferRate) {
+            capacity = transferRate + (long) nodeCount * (transferRate / ENERGY_BUFFER_SCALER);
+            capacityNodeCount = nodeCount;
+            capacityTransferRate = transferRate;
+        }
+
+        return capacity;
+    }
+
     public int rotatingIndex() {
         return rotatingIndex;
     }
@@ -49,6 +89,51 @@ public class EnergyConduitNetworkContext implements ConduitNetworkContext<Energy
         this.rotatingIndex = rotatingIndex;
     }
 
+    /**
+     * @return whether the receiver on this side of the node had no demand recently and should not be asked this tick.
+     */
+    public boolean isBackedOff(ConduitNode node, Direction direction, long gameTime) {
+        Backoff backoff = backoffs.get(new Endpoint(node, direction));
+        return backoff != null && gameTime < backoff.until;
+    }
+
+    /**
+     * Skip the receiver for a while, for longer each time it is found without demand.
+     */
+    public void backOff(ConduitNode node, Direction direction, long gameTime) {
+        Backoff backoff = backoffs.computeIfAbsent(new Endpoint(node, direction), e -> new Backoff());
+        backoff.delay = Math.min(MAX_BACKOFF_TICKS, backoff.delay == 0 ? MIN_BACKOFF_TICKS : backoff.delay * 2);
+        backoff.until = gameTime + backoff.delay;
+    }
+
+    public void clearBackoff(ConduitNode node, Direction direction) {
+        backoffs.remove(new Endpoint(node, direction));
+    }
+
+    /**
+     * Drop the back-offs of receivers that are no longer inserts on any channel, checked whenever the network's connections change.
+     */
+    public void trimBackoffs(ConduitNetwork graph) {
+        long connectionsVersion = graph.getConnectionsVersion();
+        if (connectionsVersion == backoffsConnectionsVersion) {
+            return;
+        }
+
+        backoffsConnectionsVersion = connectionsVersion;
+        if (backoffs.isEmpty()) {
+            return;
+        }
+
+        Set<Endpoint> inserts = new HashSet<>();
+        for (DyeColor color : DyeColor.values()) {
+            for (IOAwareConduitTicker.Connection insert : graph.getInsertConnections(color)) {
+                inserts.add(new Endpoint(insert.node(), insert.direction()));
+            }
+        }
+
+        backoffs.keySet().retainAll(inserts);
+    }
+
     @Override
     public EnergyConduitNetworkContext mergeWith(EnergyConduitNetworkContext other) {
         return new EnergyConduitNetworkContext(this.energyStored + other.energyStored);
@@ -63,4 +148,13 @@ public class EnergyConduitNetworkContext implements ConduitNetworkContext<Energy
     public ConduitNetworkContextType<EnergyConduitNetworkContext> type() {
         return Conduits.ContextSerializers.ENERGY.get();
     }
+
+    // Nodes don't override equals, so they are compared by identity.
+    private record Endpoint(ConduitNode node, Direction direction) {
+    }
+
+    private static class Backoff {
+        private long until;
+        private int delay;
+    }
 }
@@ -9,8 +9,6 @@ public record EnergyConduitStorage(
     ConduitNode node
 ) implements IEnergyStorage {
 
-    private static final int ENERGY_BUFFER_SCALER = 4;
-
     @Override
     public int receiveEnergy(int toReceive, boolean simulate) {
         if (!canReceive()) {
@@ -22,9 +20,11 @@ public record EnergyConduitStorage(
         // Cap to transfer rate.
         toReceive = Math.min(transferRate(), toReceive);
 
-        int energyReceived = Math.min(getMaxEnergyStored() - getEnergyStored(), toReceive);
+        long energyStored = getNetworkEnergyStored(context);
+        int energyReceived = (int) Math.min(getNetworkCapacity(context) - energyStored, toReceive);
         if (!simulate) {
-            context.setEnergyStored(getEnergyStored() + energyReceived);
+            context.setEnergyStored(energyStored + energyReceived);
+            node.getParentGraph().markContextChanged();
         }
 
         return energyReceived;
@@ -42,23 +42,21 @@ public record EnergyConduitStorage(
             return 0;
         }
 
-        return Math.max(Math.min(getMaxEnergyStored(), context.energyStored()), 0);
+        return (int) Math.min(Integer.MAX_VALUE, getNetworkEnergyStored(context));
     }
 
     @Override
     public int getMaxEnergyStored() {
-        // Capacity is transfer rate + nodeCount * transferRate / 2 (expanded).
-        // This ensures at least the transfer rate of the cable is available, but capacity doesn't grow outrageously.
-        int nodeCount = node.getParentGraph().getNodes().size();
+        EnergyConduitNetworkContext context = node.getParentGraph().getOrCreateContext(Conduits.ContextSerializers.ENERGY.get());
+        return (int) Math.min(Integer.MAX_VALUE, getNetworkCapacity(context));
+    }
 
-        // The maximum number of nodes before the network capacity is INT_MAX.
-        int maxNodesBeforeLimit = Integer.MAX_VALUE / (transferRate() / ENERGY_BUFFER_SCALER) - ENERGY_BUFFER_SCALER;
-        if (nodeCount >= maxNodesBeforeLimit) {
-            return Integer.MAX_VALUE;
-        }
+    private long getNetworkCapacity(EnergyConduitNetworkContext context) {
+        return context.getCapacity(transferRate(), node.getParentGraph().size());
+    }
 
-        // Always full transfer rate plus the extra buffer.
-        return transferRate() + nodeCount * (transferRate() / ENERGY_BUFFER_SCALER);
+    private long getNetworkEnergyStored(EnergyConduitNetworkContext context) {
+        return Math.max(Math.min(getNetworkCapacity(context), context.energyStored()), 0);
     }
 
     @Override
@@ -6,6 +6,9 @@ import com.enderio.conduits.api.ConduitNode;
 import com.enderio.conduits.api.ticker.IOAwareConduitTicker;
 import com.enderio.conduits.common.conduit.block.ConduitBundleBlockEntity;
 import com.enderio.conduits.common.init.Conduits;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntArrays;
+import it.unimi.dsi.fastutil.ints.IntList;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
 import net.minecraft.server.level.ServerLevel;
@@ -16,6 +19,7 @@ import net.neoforged.neoforge.energy.IEnergyStorage;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.IntStream;
 
 public class EnergyConduitTicker implements IOAwareConduitTicker<EnergyConduit> {
 
@@ -35,34 +39,91 @@ public class EnergyConduitTicker implements IOAwareConduitTicker<EnergyConduit>
             return;
         }
 
-        List<IEnergyStorage> storagesForInsert = new ArrayList<>();
+        long gameTime = level.getGameTime();
+        context.trimBackoffs(graph);
+
+        // Take a snapshot of what every receiver can accept before handing anything out, so full buffers aren't offered energy.
+        int offer = (int) Math.min(conduit.transferRate(), context.energyStored());
+        List<IEnergyStorage> receivers = new ArrayList<>();
+        IntList demands = new IntArrayList();
+        long totalDemand = 0;
+
         for (var insert : inserts) {
-            IEnergyStorage capability = level.getCapability(Capabilities.EnergyStorage.BLOCK, insert.move(), insert.direction().getOpposite());
-            if (capability != null) {
-                storagesForInsert.add(capability);
+            if (context.isBackedOff(insert.node(), insert.direction(), gameTime)) {
+                continue;
             }
+
+            IEnergyStorage capability = insert.node().getNeighbourCapability(level, Capabilities.EnergyStorage.BLOCK, insert.direction());
+            if (capability == null || !capability.canReceive()) {
+                continue;
+            }
+
+            int demand = capability.receiveEnergy(offer, true);
+            if (demand <= 0) {
+                context.backOff(insert.node(), insert.direction(), gameTime);
+                continue;
+            }
+
+            context.clearBackoff(insert.node(), insert.direction());
+            receivers.add(capability);
+            demands.add(demand);
+            totalDemand += demand;
+        }
+
+        if (receivers.isEmpty()) {
+            return;
         }
 
         // Revert overflow.
-        if (storagesForInsert.size() <= context.rotatingIndex()) {
+        if (receivers.size() <= context.rotatingIndex()) {
             context.setRotatingIndex(0);
         }
 
-        int startingRotatingIndex = context.rotatingIndex();
-        for (int i = startingRotatingIndex; i < startingRotatingIndex + storagesForInsert.size(); i++) {
-            int insertIndex = i % storagesForInsert.size();
+        int[] shares = allocate(demands.toIntArray(), context.energyStored(), totalDemand, context.rotatingIndex());
+        for (int i = 0; i < shares.length; i++) {
+            if (shares[i] > 0) {
+                int energyInserted = receivers.get(i).receiveEnergy(shares[i], false);
+                context.setEnergyStored(context.energyStored() - energyInserted);
+            }
+        }
 
-            IEnergyStorage insertHandler = storagesForInsert.get(insertIndex);
+        context.setRotatingIndex((context.rotatingIndex() + 1) % receivers.size());
+        graph.markContextChanged();
+    }
 
-            if (!insertHandler.canReceive()) {
-                continue;
-            }
+    /**
+     * Split the available energy between receivers in one pass.
+     * When there isn't enough for all of them, each gets an equal share or its demand if that is less, and whatever small demands leave over is split between the rest.
+     * @return the energy to give to each receiver, in the same order as the demands.
+     */
+    static int[] allocate(int[] demands, long available, long totalDemand, int startIndex) {
+        int count = demands.length;
+        if (totalDemand <= available) {
+            return demands.clone();
+        }
+
+        int[] shares = new int[count];
+        int[] order = IntStream.range(0, count).toArray();
+        IntArrays.quickSort(order, (a, b) -> Integer.compare(demands[a], demands[b]));
+
+        long remaining = available;
+        for (int k = 0; k < count; k++) {
+            int i = order[k];
+            int share = (int) Math.min(demands[i], remaining / (count - k));
+            shares[i] = share;
+            remaining -= share;
+        }
 
-            int energyToInsert = Math.min(conduit.transferRate(), Math.max(context.energyStored(), 0));
-            int energyInserted = insertHandler.receiveEnergy(energyToInsert, false);
-            context.setEnergyStored(context.energyStored() - energyInserted);
-            context.setRotatingIndex(insertIndex + 1);
+        // Rounding leaves less than one unit per receiver, rotate who gets it so small networks still deliver.
+        for (int k = 0; k < count && remaining > 0; k++) {
+            int i = (startIndex + k) % count;
+            if (shares[i] < demands[i]) {
+                shares[i]++;
+                remaining--;
+            }
         }
+
+        return shares;
     }
 
     @Override
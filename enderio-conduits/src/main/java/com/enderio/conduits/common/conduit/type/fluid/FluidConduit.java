@@ -5,6 +5,7 @@ import com.enderio.base.api.filter.FluidStackFilter;
 import com.enderio.base.api.filter.ResourceFilter;
 import com.enderio.conduits.api.Conduit;
 import com.enderio.conduits.api.ConduitMenuData;
+import com.enderio.conduits.api.ConduitNetwork;
 import com.enderio.conduits.api.ConduitNode;
 import com.enderio.conduits.api.ConduitType;
 import com.enderio.conduits.api.SlotType;
@@ -12,6 +13,7 @@ import com.enderio.conduits.api.upgrade.ConduitUpgrade;
 import com.enderio.conduits.common.components.ExtractionSpeedUpgrade;
 import com.enderio.conduits.common.init.ConduitLang;
 import com.enderio.conduits.common.init.ConduitTypes;
+import com.enderio.conduits.common.init.Conduits;
 import com.enderio.core.common.util.TooltipUtil;
 import com.mojang.serialization.Codec;
 import com.mojang.serialization.MapCodec;
@@ -81,7 +83,7 @@ public record FluidConduit(
         FluidConduitData selfData = selfNode.getOrCreateData(ConduitTypes.Data.FLUID.get());
         FluidConduitData otherData = otherNode.getOrCreateData(ConduitTypes.Data.FLUID.get());
 
-        return selfData.lockedFluid() == null || otherData.lockedFluid() == null || selfData.lockedFluid() == otherData.lockedFluid();
+        return !selfData.isLocked() || !otherData.isLocked() || selfData.lockedFluid() == otherData.lockedFluid();
     }
 
     @Override
@@ -89,14 +91,30 @@ public record FluidConduit(
         FluidConduitData selfData = selfNode.getOrCreateData(ConduitTypes.Data.FLUID.get());
         FluidConduitData otherData = otherNode.getOrCreateData(ConduitTypes.Data.FLUID.get());
 
-        if (selfData.lockedFluid() != null) {
-            if (otherData.lockedFluid() != null && selfData.lockedFluid() != otherData.lockedFluid()) {
+        if (selfData.isLocked()) {
+            if (otherData.isLocked() && selfData.lockedFluid() != otherData.lockedFluid()) {
                 EnderIOBase.LOGGER.warn("incompatible fluid conduits merged");
             }
 
             otherData.setLockedFluid(selfData.lockedFluid());
-        } else if (otherData.lockedFluid() != null) {
+            otherNode.markDataChanged();
+        } else if (otherData.isLocked()) {
             selfData.setLockedFluid(otherData.lockedFluid());
+            selfNode.markDataChanged();
+        }
+    }
+
+    @Override
+    public void onClientDataChanged(ConduitNode node) {
+        FluidConduitData data = node.getData(ConduitTypes.Data.FLUID.get());
+        if (data != null && data.shouldReset()) {
+            data.setShouldReset(false);
+            node.markDataChanged();
+
+            ConduitNetwork graph = node.getParentGraph();
+            if (graph != null) {
+                graph.getOrCreateContext(Conduits.ContextSerializers.FLUID.get()).requestReset();
+            }
         }
     }
 
@@ -57,6 +57,10 @@ public class FluidConduitData implements ConduitData<FluidConduitData> {
         this.lockedFluid = lockedFluid;
     }
 
+    public boolean isLocked() {
+        return !lockedFluid.isSame(Fluids.EMPTY);
+    }
+
     public boolean shouldReset() {
         return shouldReset;
     }
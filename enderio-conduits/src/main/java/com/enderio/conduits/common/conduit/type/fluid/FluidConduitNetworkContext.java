@@ -0,0 +1,98 @@
+package com.enderio.conduits.common.conduit.type.fluid;
+
+import com.enderio.conduits.api.ConduitNetworkContext;
+import com.enderio.conduits.api.ConduitNetworkContextType;
+import com.enderio.conduits.api.ConduitNode;
+import com.enderio.conduits.common.init.ConduitTypes;
+import com.enderio.conduits.common.init.Conduits;
+import net.minecraft.world.level.material.Fluid;
+import net.minecraft.world.level.material.Fluids;
+
+import java.util.Collection;
+
+/**
+ * The fluid a single-fluid conduit network is locked to.
+ * Node data keeps a copy for saving and for clients, which is only written when the locked fluid changes.
+ * This is not saved, a new network reads the locked fluid back from its nodes on its first tick.
+ */
+public class FluidConduitNetworkContext implements ConduitNetworkContext<FluidConduitNetworkContext> {
+
+    private Fluid lockedFluid = Fluids.EMPTY;
+    private boolean isInitialized;
+    private boolean shouldReset;
+
+    public Fluid lockedFluid() {
+        return lockedFluid;
+    }
+
+    public boolean isLocked() {
+        return !lockedFluid.isSame(Fluids.EMPTY);
+    }
+
+    /**
+     * Take the locked fluid from the nodes, making sure all of them agree in case the network was just merged.
+     */
+    public void initialize(Collection<ConduitNode> nodes) {
+        isInitialized = true;
+
+        Fluid fluid = Fluids.EMPTY;
+        for (ConduitNode node : nodes) {
+            FluidConduitData data = node.getData(ConduitTypes.Data.FLUID.get());
+            if (data != null && data.isLocked()) {
+                fluid = data.lockedFluid();
+                break;
+            }
+        }
+
+        setLockedFluid(fluid, nodes);
+    }
+
+    public boolean isInitialized() {
+        return isInitialized;
+    }
+
+    /**
+     * Lock the network to the given fluid, or unlock it with {@link Fluids#EMPTY}, updating every node's copy.
+     */
+    public void setLockedFluid(Fluid fluid, Collection<ConduitNode> nodes) {
+        lockedFluid = fluid;
+        for (ConduitNode node : nodes) {
+            FluidConduitData data = node.getOrCreateData(ConduitTypes.Data.FLUID.get());
+            if (data.lockedFluid() != fluid) {
+                data.setLockedFluid(fluid);
+                node.markDataChanged();
+            }
+        }
+    }
+
+    /**
+     * Unlock the network on its next tick.
+     */
+    public void requestReset() {
+        shouldReset = true;
+    }
+
+    /**
+     * @return whether a reset was requested since the last call.
+     */
+    public boolean consumeReset() {
+        boolean reset = shouldReset;
+        shouldReset = false;
+        return reset;
+    }
+
+    @Override
+    public FluidConduitNetworkContext mergeWith(FluidConduitNetworkContext other) {
+        return new FluidConduitNetworkContext();
+    }
+
+    @Override
+    public FluidConduitNetworkContext copy() {
+        return new FluidConduitNetworkContext();
+    }
+
+    @Override
+    public ConduitNetworkContextType<FluidConduitNetworkContext> type() {
+        return Conduits.ContextSerializers.FLUID.get();
+    }
+}
@@ -3,14 +3,14 @@ package com.enderio.conduits.common.conduit.type.fluid;
 import com.enderio.base.api.filter.FluidStackFilter;
 import com.enderio.conduits.api.ColoredRedstoneProvider;
 import com.enderio.conduits.api.ConduitNetwork;
-import com.enderio.conduits.api.ConduitNode;
 import com.enderio.conduits.api.ticker.CapabilityAwareConduitTicker;
 import com.enderio.conduits.common.components.ExtractionSpeedUpgrade;
-import com.enderio.conduits.common.init.ConduitTypes;
+import com.enderio.conduits.common.init.Conduits;
 import net.minecraft.core.Direction;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.world.level.material.FlowingFluid;
 import net.minecraft.world.level.material.Fluid;
+import net.minecraft.world.level.material.Fluids;
 import net.neoforged.neoforge.capabilities.BlockCapability;
 import net.neoforged.neoforge.capabilities.Capabilities;
 import net.neoforged.neoforge.fluids.FluidStack;
@@ -18,7 +18,6 @@ import net.neoforged.neoforge.fluids.FluidUtil;
 import net.neoforged.neoforge.fluids.capability.IFluidHandler;
 
 import java.util.List;
-import java.util.Optional;
 
 public class FluidConduitTicker extends CapabilityAwareConduitTicker<FluidConduit, IFluidHandler> {
 
@@ -35,26 +34,19 @@ public class FluidConduitTicker extends CapabilityAwareConduitTicker<FluidCondui
     public void tickGraph(
         ServerLevel level,
         FluidConduit conduit,
-        List<ConduitNode> loadedNodes,
         ConduitNetwork graph,
         ColoredRedstoneProvider coloredRedstoneProvider) {
 
-        boolean shouldReset = false;
-        for (var loadedNode : loadedNodes) {
-            FluidConduitData fluidExtendedData = loadedNode.getOrCreateData(ConduitTypes.Data.FLUID.get());
-            if (fluidExtendedData.shouldReset()) {
-                shouldReset = true;
-                fluidExtendedData.setShouldReset(false);
-            }
+        FluidConduitNetworkContext context = graph.getOrCreateContext(Conduits.ContextSerializers.FLUID.get());
+        if (!context.isInitialized()) {
+            context.initialize(graph.getNodes());
         }
 
-        if (shouldReset) {
-            for (var loadedNode : loadedNodes) {
-                FluidConduitData fluidExtendedData = loadedNode.getOrCreateData(ConduitTypes.Data.FLUID.get());
-                fluidExtendedData.setLockedFluid(null);
-            }
+        if (context.consumeReset()) {
+            context.setLockedFluid(Fluids.EMPTY, graph.getNodes());
         }
-        super.tickGraph(level, conduit, loadedNodes, graph, coloredRedstoneProvider);
+
+        super.tickGraph(level, conduit, graph, coloredRedstoneProvider);
     }
 
     @Override
@@ -66,16 +58,16 @@ public class FluidConduitTicker extends CapabilityAwareConduitTicker<FluidCondui
         ConduitNetwork graph,
         ColoredRedstoneProvider coloredRedstoneProvider) {
 
+        FluidConduitNetworkContext context = graph.getOrCreateContext(Conduits.ContextSerializers.FLUID.get());
+
         for (CapabilityConnection extract : extracts) {
             IFluidHandler extractHandler = extract.capability();
-            FluidConduitData fluidExtendedData = extract.node().getOrCreateData(ConduitTypes.Data.FLUID.get());
 
             final int transferRate = getScaledFluidRate(conduit, extract);
 
-            FluidStack extractedFluid = Optional
-                .ofNullable(fluidExtendedData.lockedFluid())
-                .map(fluid -> extractHandler.drain(new FluidStack(fluid, transferRate), IFluidHandler.FluidAction.SIMULATE))
-                .orElseGet(() -> extractHandler.drain(transferRate, IFluidHandler.FluidAction.SIMULATE));
+            FluidStack extractedFluid = context.isLocked()
+                ? extractHandler.drain(new FluidStack(context.lockedFluid(), transferRate), IFluidHandler.FluidAction.SIMULATE)
+                : extractHandler.drain(transferRate, IFluidHandler.FluidAction.SIMULATE);
 
             if (extractedFluid.isEmpty()) {
                 continue;
@@ -95,23 +87,22 @@ public class FluidConduitTicker extends CapabilityAwareConduitTicker<FluidCondui
                     }
                 }
 
-                FluidStack transferredFluid = fluidExtendedData.lockedFluid() != null ?
-                    FluidUtil.tryFluidTransfer(insert.capability(), extractHandler, new FluidStack(fluidExtendedData.lockedFluid(), transferRate - transferred),
+                FluidStack transferredFluid = context.isLocked() ?
+                    FluidUtil.tryFluidTransfer(insert.capability(), extractHandler, new FluidStack(context.lockedFluid(), transferRate - transferred),
                         true) :
                     FluidUtil.tryFluidTransfer(insert.capability(), extractHandler, transferRate - transferred, true);
 
                 if (!transferredFluid.isEmpty()) {
                     transferred += transferredFluid.getAmount();
-                    if (!conduit.isMultiFluid()) {
-                        for (ConduitNode node : graph.getNodes()) {
-                            Fluid fluid = transferredFluid.getFluid();
-                            if (fluid instanceof FlowingFluid flowing) {
-                                fluid = flowing.getSource();
-                            }
-
-                            FluidConduitData nodeFluidData = node.getOrCreateData(ConduitTypes.Data.FLUID.get());
-                            nodeFluidData.setLockedFluid(fluid);
+
+                    // Nodes are only written when the network first locks, not on every transfer.
+                    if (!conduit.isMultiFluid() && !context.isLocked()) {
+                        Fluid fluid = transferredFluid.getFluid();
+                        if (fluid instanceof FlowingFluid flowing) {
+                            fluid = flowing.getSource();
                         }
+
+                        context.setLockedFluid(fluid, graph.getNodes());
                     }
 
                     if (transferred > transferRate) {
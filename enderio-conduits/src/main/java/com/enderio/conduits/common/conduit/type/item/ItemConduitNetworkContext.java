@@ -0,0 +1,96 @@
+package com.enderio.conduits.common.conduit.type.item;
+
+import com.enderio.conduits.api.ConduitNetworkContext;
+import com.enderio.conduits.api.ConduitNetworkContextType;
+import com.enderio.conduits.api.ConduitNode;
+import com.enderio.conduits.common.init.Conduits;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Reference2IntOpenHashMap;
+import net.minecraft.core.Direction;
+import net.minecraft.world.item.Item;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Routing state of an item conduit network, used to avoid scanning every slot of large inventories.
+ * This is not saved, and is dropped whenever the network merges or splits.
+ */
+public class ItemConduitNetworkContext implements ConduitNetworkContext<ItemConduitNetworkContext> {
+
+    // Past this many items, a target's hints are cleared rather than kept for items that may no longer be routed.
+    private static final int MAX_SLOT_HINTS = 64;
+
+    private final Map<Endpoint, Reference2IntOpenHashMap<Item>> slotHints = new HashMap<>();
+    private final Object2IntOpenHashMap<Endpoint> extractCursors = new Object2IntOpenHashMap<>();
+
+    public ItemConduitNetworkContext() {
+        extractCursors.defaultReturnValue(0);
+    }
+
+    /**
+     * @return the last slot of the target that accepted this item, or -1 if there is none.
+     */
+    public int getSlotHint(ConduitNode node, Direction direction, Item item) {
+        var hints = slotHints.get(new Endpoint(node, direction));
+        return hints == null ? -1 : hints.getInt(item);
+    }
+
+    public void setSlotHint(ConduitNode node, Direction direction, Item item, int slot) {
+        var hints = slotHints.computeIfAbsent(new Endpoint(node, direction), e -> {
+            var map = new Reference2IntOpenHashMap<Item>();
+            map.defaultReturnValue(-1);
+            return map;
+        });
+
+        if (hints.size() >= MAX_SLOT_HINTS && !hints.containsKey(item)) {
+            hints.clear();
+        }
+
+        hints.put(item, slot);
+    }
+
+    /**
+     * @return the slot the extractor should resume scanning from.
+     */
+    public int getExtractCursor(ConduitNode node, Direction direction) {
+        return extractCursors.getInt(new Endpoint(node, direction));
+    }
+
+    public void setExtractCursor(ConduitNode node, Direction direction, int slot) {
+        extractCursors.put(new Endpoint(node, direction), slot);
+    }
+
+    /**
+     * Drop all state once it holds more endpoints than the network can have, which means nodes were removed without the network splitting.
+     */
+    public void trim(int networkSize) {
+        int maxEndpoints = networkSize * Direction.values().length;
+        if (slotHints.size() > maxEndpoints) {
+            slotHints.clear();
+        }
+
+        if (extractCursors.size() > maxEndpoints) {
+            extractCursors.clear();
+        }
+    }
+
+    @Override
+    public ItemConduitNetworkContext mergeWith(ItemConduitNetworkContext other) {
+        return new ItemConduitNetworkContext();
+    }
+
+    @Override
+    public ItemConduitNetworkContext copy() {
+        return new ItemConduitNetworkContext();
+    }
+
+    @Override
+    public ConduitNetworkContextType<ItemConduitNetworkContext> type() {
+        return Conduits.ContextSerializers.ITEM.get();
+    }
+
+    // Nodes don't override equals, so they are compared by identity.
+    private record Endpoint(ConduitNode node, Direction direction) {
+    }
+}
@@ -6,15 +6,18 @@ import com.enderio.conduits.api.ConduitNetwork;
 import com.enderio.conduits.api.ticker.CapabilityAwareConduitTicker;
 import com.enderio.conduits.common.components.ExtractionSpeedUpgrade;
 import com.enderio.conduits.common.init.ConduitTypes;
+import com.enderio.conduits.common.init.Conduits;
+import it.unimi.dsi.fastutil.objects.Object2ObjectOpenCustomHashMap;
 import net.minecraft.core.Direction;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.ItemStackLinkedSet;
 import net.neoforged.neoforge.capabilities.BlockCapability;
 import net.neoforged.neoforge.capabilities.Capabilities;
 import net.neoforged.neoforge.items.IItemHandler;
-import net.neoforged.neoforge.items.ItemHandlerHelper;
 
 import java.util.List;
+import java.util.Map;
 
 public class ItemConduitTicker extends CapabilityAwareConduitTicker<ItemConduit, IItemHandler> {
 
@@ -29,30 +32,50 @@ public class ItemConduitTicker extends CapabilityAwareConduitTicker<ItemConduit,
         ConduitNetwork graph,
         ColoredRedstoneProvider coloredRedstoneProvider) {
 
-        toNextExtract:
+        ItemConduitNetworkContext context = graph.getOrCreateContext(Conduits.ContextSerializers.ITEM.get());
+        context.trim(graph.size());
+
+        // Which inserts accept each item, shared between all extracts this tick.
+        Map<ItemStack, boolean[]> acceptingInserts = new Object2ObjectOpenCustomHashMap<>(ItemStackLinkedSet.TYPE_AND_TAG);
+
         for (CapabilityConnection extract: extracts) {
             IItemHandler extractHandler = extract.capability();
+            int slots = extractHandler.getSlots();
+            if (slots == 0) {
+                continue;
+            }
+
+            int speed = 4;
+            if (extract.upgrade() instanceof ExtractionSpeedUpgrade speedUpgrade) {
+                speed *= (int) Math.pow(2, speedUpgrade.tier());
+            }
+
+            ItemConduitData.ItemSidedData sidedExtractData = extract.node().getOrCreateData(ConduitTypes.Data.ITEM.get()).compute(extract.direction());
+            int startRotatingIndex = sidedExtractData.rotatingIndex;
+            ItemStackFilter extractFilter = extract.extractFilter() instanceof ItemStackFilter itemFilter ? itemFilter.compile() : null;
+
+            // Resume where the last tick stopped, so large inventories aren't scanned from the start every time.
+            int startSlot = context.getExtractCursor(extract.node(), extract.direction()) % slots;
             int extracted = 0;
 
             nextItem:
-            for (int i = 0; i < extractHandler.getSlots(); i++) {
-                int speed = 4;
-                if (extract.upgrade() instanceof ExtractionSpeedUpgrade speedUpgrade) {
-                    speed *= (int) Math.pow(2, speedUpgrade.tier());
+            for (int scanned = 0; scanned < slots; scanned++) {
+                int slot = (startSlot + scanned) % slots;
+                ItemStack extractedItem = extractHandler.extractItem(slot, speed - extracted, true);
+                if (extractedItem.isEmpty()) {
+                    continue;
                 }
 
-                ItemStack extractedItem = extractHandler.extractItem(i, speed - extracted, true);
-                if (extractedItem.isEmpty()) {
+                if (extractFilter != null && !extractFilter.test(extractedItem)) {
                     continue;
                 }
 
-                if (extract.extractFilter() instanceof ItemStackFilter itemFilter) {
-                    if (!itemFilter.test(extractedItem)) {
-                        continue;
-                    }
+                boolean[] accepted = acceptingInserts.get(extractedItem);
+                if (accepted == null) {
+                    accepted = testInsertFilters(inserts, extractedItem);
+                    acceptingInserts.put(extractedItem.copyWithCount(1), accepted);
                 }
 
-                ItemConduitData.ItemSidedData sidedExtractData = extract.node().getOrCreateData(ConduitTypes.Data.ITEM.get()).compute(extract.direction());
                 if (sidedExtractData.isRoundRobin) {
                     if (inserts.size() <= sidedExtractData.rotatingIndex) {
                         sidedExtractData.rotatingIndex = 0;
@@ -63,6 +86,10 @@ public class ItemConduitTicker extends CapabilityAwareConduitTicker<ItemConduit,
 
                 for (int j = sidedExtractData.rotatingIndex; j < sidedExtractData.rotatingIndex + inserts.size(); j++) {
                     int insertIndex = j % inserts.size();
+                    if (!accepted[insertIndex]) {
+                        continue;
+                    }
+
                     CapabilityConnection insert = inserts.get(insertIndex);
 
                     if (!sidedExtractData.isSelfFeed
@@ -71,31 +98,69 @@ public class ItemConduitTicker extends CapabilityAwareConduitTicker<ItemConduit,
                         continue;
                     }
 
-                    if (insert.insertFilter() instanceof ItemStackFilter itemFilter) {
-                        if (!itemFilter.test(extractedItem)) {
-                            continue;
-                        }
-                    }
-
-                    ItemStack notInserted = ItemHandlerHelper.insertItem(insert.capability(), extractedItem, false);
+                    int inserted = insert(context, insert, extractedItem);
 
-                    if (notInserted.getCount() < extractedItem.getCount()) {
-                        extracted += extractedItem.getCount() - notInserted.getCount();
-                        extractHandler.extractItem(i, extracted, false);
+                    if (inserted > 0) {
+                        extracted += inserted;
+                        extractHandler.extractItem(slot, inserted, false);
                         if (extracted >= speed) {
                             if (sidedExtractData.isRoundRobin) {
                                 sidedExtractData.rotatingIndex = insertIndex + 1;
                             }
-                            continue toNextExtract;
+
+                            context.setExtractCursor(extract.node(), extract.direction(), slot);
+                            break nextItem;
                         } else {
                             continue nextItem;
                         }
                     }
                 }
             }
+
+            if (sidedExtractData.rotatingIndex != startRotatingIndex) {
+                extract.node().markDataChanged();
+            }
         }
     }
 
+    private static boolean[] testInsertFilters(List<CapabilityConnection> inserts, ItemStack stack) {
+        boolean[] accepted = new boolean[inserts.size()];
+        for (int i = 0; i < inserts.size(); i++) {
+            accepted[i] = !(inserts.get(i).insertFilter() instanceof ItemStackFilter itemFilter) || itemFilter.compile().test(stack);
+        }
+
+        return accepted;
+    }
+
+    /**
+     * Insert into the slot that last accepted this item first, only scanning the whole inventory when that fails.
+     * @return the number of items inserted.
+     */
+    private static int insert(ItemConduitNetworkContext context, CapabilityConnection insert, ItemStack stack) {
+        IItemHandler insertHandler = insert.capability();
+        int hint = context.getSlotHint(insert.node(), insert.direction(), stack.getItem());
+
+        ItemStack remaining = stack;
+        if (hint >= 0 && hint < insertHandler.getSlots()) {
+            remaining = insertHandler.insertItem(hint, remaining, false);
+        }
+
+        for (int slot = 0; slot < insertHandler.getSlots() && !remaining.isEmpty(); slot++) {
+            if (slot == hint) {
+                continue;
+            }
+
+            ItemStack notInserted = insertHandler.insertItem(slot, remaining, false);
+            if (notInserted.getCount() < remaining.getCount()) {
+                context.setSlotHint(insert.node(), insert.direction(), stack.getItem(), slot);
+            }
+
+            remaining = notInserted;
+        }
+
+        return stack.getCount() - remaining.getCount();
+    }
+
     @Override
     protected BlockCapability<IItemHandler, Direction> getCapability() {
         return Capabilities.ItemHandler.BLOCK;
@@ -3,17 +3,21 @@ package com.enderio.conduits.common.conduit.type.redstone;
 import com.enderio.base.api.filter.ResourceFilter;
 import com.enderio.conduits.api.Conduit;
 import com.enderio.conduits.api.ConduitMenuData;
+import com.enderio.conduits.api.ConduitNetwork;
 import com.enderio.conduits.api.ConduitNode;
 import com.enderio.conduits.api.ConduitType;
 import com.enderio.conduits.api.SlotType;
 import com.enderio.conduits.common.init.ConduitTypes;
+import com.enderio.conduits.common.init.Conduits;
 import com.enderio.conduits.common.redstone.RedstoneExtractFilter;
 import com.enderio.conduits.common.redstone.RedstoneInsertFilter;
 import com.mojang.serialization.MapCodec;
 import com.mojang.serialization.codecs.RecordCodecBuilder;
+import net.minecraft.core.BlockPos;
 import net.minecraft.network.chat.Component;
 import net.minecraft.network.chat.ComponentSerialization;
 import net.minecraft.resources.ResourceLocation;
+import net.minecraft.world.level.Level;
 import org.jetbrains.annotations.NotNull;
 
 public record RedstoneConduit(
@@ -57,6 +61,14 @@ public record RedstoneConduit(
         };
     }
 
+    @Override
+    public void onNeighborChanged(ConduitNode node, Level level, BlockPos pos, BlockPos fromPos) {
+        ConduitNetwork graph = node.getParentGraph();
+        if (graph != null) {
+            graph.getOrCreateContext(Conduits.ContextSerializers.REDSTONE.get()).markDirty();
+        }
+    }
+
     @Override
     public ResourceLocation getTexture(ConduitNode node) {
         RedstoneConduitData data = node.getData(ConduitTypes.Data.REDSTONE.get());
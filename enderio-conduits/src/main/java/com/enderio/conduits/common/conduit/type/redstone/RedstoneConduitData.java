@@ -6,6 +6,7 @@ import com.enderio.conduits.common.init.ConduitTypes;
 import com.mojang.serialization.Codec;
 import com.mojang.serialization.MapCodec;
 import com.mojang.serialization.codecs.RecordCodecBuilder;
+import net.minecraft.core.Direction;
 import net.minecraft.network.RegistryFriendlyByteBuf;
 import net.minecraft.network.codec.ByteBufCodecs;
 import net.minecraft.network.codec.StreamCodec;
@@ -36,6 +37,9 @@ public class RedstoneConduitData implements ConduitData<RedstoneConduitData> {
     private boolean isActive = false;
     private final EnumMap<DyeColor, Integer> activeColors = new EnumMap<>(DyeColor.class);
 
+    // Neither saved, synced nor hashed, so filters updating it don't cause the bundle to be saved or synced.
+    private final EnumMap<Direction, FilterState> filterStates = new EnumMap<>(Direction.class);
+
     public RedstoneConduitData() {
     }
 
@@ -75,6 +79,13 @@ public class RedstoneConduitData implements ConduitData<RedstoneConduitData> {
         activeColors.put(color, signal);
     }
 
+    /**
+     * @return the runtime state of the insert filter on the given side, such as a counter or latch.
+     */
+    public FilterState getFilterState(Direction direction) {
+        return filterStates.computeIfAbsent(direction, d -> new FilterState());
+    }
+
     @Override
     public RedstoneConduitData deepCopy() {
         return new RedstoneConduitData(isActive, new EnumMap<>(activeColors));
@@ -84,4 +95,40 @@ public class RedstoneConduitData implements ConduitData<RedstoneConduitData> {
     public int hashCode() {
         return Objects.hash(isActive, activeColors);
     }
+
+    /**
+     * Runtime state of a stateful insert filter. This resets when the conduit is reloaded.
+     */
+    public static class FilterState {
+        private int count;
+        private boolean isActive;
+        private boolean isDeactivated = true;
+
+        public int count() {
+            return count;
+        }
+
+        public void setCount(int count) {
+            this.count = count;
+        }
+
+        public boolean isActive() {
+            return isActive;
+        }
+
+        public void setActive(boolean active) {
+            isActive = active;
+        }
+
+        /**
+         * @return whether the input has been off since the last time it turned on.
+         */
+        public boolean isDeactivated() {
+            return isDeactivated;
+        }
+
+        public void setDeactivated(boolean deactivated) {
+            isDeactivated = deactivated;
+        }
+    }
 }
@@ -0,0 +1,88 @@
+package com.enderio.conduits.common.conduit.type.redstone;
+
+import com.enderio.conduits.api.ConduitNetworkContext;
+import com.enderio.conduits.api.ConduitNetworkContextType;
+import com.enderio.conduits.common.init.Conduits;
+import net.minecraft.world.item.DyeColor;
+
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Channel levels of a redstone conduit network, used to only recompute them when an input may have changed.
+ * This is not saved, and a new network always starts out needing a recompute.
+ */
+public class RedstoneConduitNetworkContext implements ConduitNetworkContext<RedstoneConduitNetworkContext> {
+
+    // Inputs that don't cause a block update, such as a neighbour's chunk loading, are picked up after at most this many ticks.
+    private static final int REFRESH_INTERVAL = 100;
+
+    private final EnumMap<DyeColor, Integer> channelSignals = new EnumMap<>(DyeColor.class);
+
+    private boolean isDirty = true;
+    private boolean hasPolledInputs;
+    private long connectionsVersion = -1;
+    private long lastUpdateTime;
+
+    /**
+     * Recompute the network on its next tick, used when a neighbour of one of its nodes changed.
+     */
+    public void markDirty() {
+        isDirty = true;
+    }
+
+    /**
+     * @return whether any input may have changed since the last update.
+     */
+    public boolean needsUpdate(long connectionsVersion, long gameTime) {
+        return isDirty
+            || hasPolledInputs
+            || this.connectionsVersion != connectionsVersion
+            || gameTime - lastUpdateTime >= REFRESH_INTERVAL;
+    }
+
+    public boolean haveConnectionsChanged(long connectionsVersion) {
+        return this.connectionsVersion != connectionsVersion;
+    }
+
+    /**
+     * Store the newly computed channel levels.
+     * @param hasPolledInputs whether any input must be read every tick, as filters can change without a block update.
+     * @return the channels whose level changed.
+     */
+    public Set<DyeColor> update(Map<DyeColor, Integer> signals, boolean hasPolledInputs, long connectionsVersion, long gameTime) {
+        Set<DyeColor> changed = EnumSet.noneOf(DyeColor.class);
+        for (DyeColor color : DyeColor.values()) {
+            if (!Objects.equals(channelSignals.get(color), signals.get(color))) {
+                changed.add(color);
+            }
+        }
+
+        channelSignals.clear();
+        channelSignals.putAll(signals);
+
+        this.isDirty = false;
+        this.hasPolledInputs = hasPolledInputs;
+        this.connectionsVersion = connectionsVersion;
+        this.lastUpdateTime = gameTime;
+        return changed;
+    }
+
+    @Override
+    public RedstoneConduitNetworkContext mergeWith(RedstoneConduitNetworkContext other) {
+        return new RedstoneConduitNetworkContext();
+    }
+
+    @Override
+    public RedstoneConduitNetworkContext copy() {
+        return new RedstoneConduitNetworkContext();
+    }
+
+    @Override
+    public ConduitNetworkContextType<RedstoneConduitNetworkContext> type() {
+        return Conduits.ContextSerializers.REDSTONE.get();
+    }
+}
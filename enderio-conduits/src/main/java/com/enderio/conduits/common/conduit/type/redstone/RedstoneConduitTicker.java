@@ -2,11 +2,12 @@ package com.enderio.conduits.common.conduit.type.redstone;
 
 import com.enderio.conduits.api.ColoredRedstoneProvider;
 import com.enderio.conduits.api.ConduitNetwork;
-import com.enderio.conduits.api.ConduitNode;
 import com.enderio.conduits.api.ticker.IOAwareConduitTicker;
 import com.enderio.conduits.common.init.ConduitBlocks;
 import com.enderio.conduits.common.init.ConduitTypes;
+import com.enderio.conduits.common.init.Conduits;
 import com.enderio.conduits.common.redstone.RedstoneExtractFilter;
+import com.enderio.conduits.common.redstone.RedstoneInsertFilter;
 import com.enderio.conduits.common.tag.ConduitTags;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
@@ -15,14 +16,20 @@ import net.minecraft.world.item.DyeColor;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.block.state.BlockState;
 
-import java.util.Collection;
 import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 public class RedstoneConduitTicker implements IOAwareConduitTicker<RedstoneConduit> {
 
+    public static final int TICK_RATE = 2;
+
     private final Map<DyeColor, Integer> activeColors = new EnumMap<>(DyeColor.class);
+    private final Map<DyeColor, List<Connection>> insertsByColor = new EnumMap<>(DyeColor.class);
+
+    // Set when an input is read through a filter, whose signal can change without a block update.
+    private boolean hasPolledInputs;
 
     @Override
     public boolean canConnectTo(Level level, BlockPos conduitPos, Direction direction) {
@@ -38,17 +45,44 @@ public class RedstoneConduitTicker implements IOAwareConduitTicker<RedstoneCondu
         ConduitNetwork graph,
         ColoredRedstoneProvider coloredRedstoneProvider) {
 
-        Collection<ConduitNode> nodeIdentifiers = graph.getNodes();
+        RedstoneConduitNetworkContext context = graph.getOrCreateContext(Conduits.ContextSerializers.REDSTONE.get());
+        long connectionsVersion = graph.getConnectionsVersion();
+        long gameTime = level.getGameTime();
+        if (!context.needsUpdate(connectionsVersion, gameTime)) {
+            return;
+        }
+
+        boolean connectionsChanged = context.haveConnectionsChanged(connectionsVersion);
 
         activeColors.clear();
-        tickGraph(level, conduit, nodeIdentifiers.stream().filter(node -> isLoaded(level, node.getPos())).toList(), graph, coloredRedstoneProvider);
+        insertsByColor.clear();
+        hasPolledInputs = false;
+        IOAwareConduitTicker.super.tickGraph(level, conduit, graph, coloredRedstoneProvider);
+
+        Set<DyeColor> changedColors = context.update(activeColors, hasPolledInputs, connectionsVersion, gameTime);
+        if (changedColors.isEmpty() && !connectionsChanged) {
+            return;
+        }
 
-        for (var nodeIdentifier : nodeIdentifiers) {
-            RedstoneConduitData data = nodeIdentifier.getOrCreateData(ConduitTypes.Data.REDSTONE.get());
+        for (var node : graph.getNodes()) {
+            RedstoneConduitData data = node.getOrCreateData(ConduitTypes.Data.REDSTONE.get());
             data.clearActive();
             for (var entry : activeColors.entrySet()) {
                 data.setActiveColor(entry.getKey(), entry.getValue());
             }
+
+            node.markDataChanged();
+        }
+
+        // Outputs only need to re-read their signal if their channel changed.
+        // Filtered outputs may read other channels than their own, so they are updated whenever any channel changed.
+        for (var entry : insertsByColor.entrySet()) {
+            boolean isChannelChanged = connectionsChanged || changedColors.contains(entry.getKey());
+            for (Connection insert : entry.getValue()) {
+                if (isChannelChanged || insert.insertFilter() instanceof RedstoneInsertFilter) {
+                    level.neighborChanged(insert.move(), ConduitBlocks.CONDUIT.get(), insert.pos());
+                }
+            }
         }
     }
 
@@ -66,17 +100,18 @@ public class RedstoneConduitTicker implements IOAwareConduitTicker<RedstoneCondu
             int signal;
             if (extract.extractFilter() instanceof RedstoneExtractFilter filter) {
                 signal = filter.getInputSignal(level, extract.move(), extract.direction());
+                hasPolledInputs = true;
             } else {
                 signal = level.getSignal(extract.move(), extract.direction());
             }
-            
+
             if (signal > 0) {
                 activeColors.put(color, Math.max(activeColors.getOrDefault(color, 0), signal));
             }
         }
 
-        for (Connection insert : inserts) {
-            level.neighborChanged(insert.move(), ConduitBlocks.CONDUIT.get(), insert.pos());
+        if (!inserts.isEmpty()) {
+            insertsByColor.put(color, inserts);
         }
     }
 
@@ -87,6 +122,6 @@ public class RedstoneConduitTicker implements IOAwareConduitTicker<RedstoneCondu
 
     @Override
     public int getTickRate() {
-        return 2;
+        return TICK_RATE;
     }
 }
@@ -0,0 +1,15 @@
+package com.enderio.conduits.common.config.common;
+
+import net.neoforged.neoforge.common.ModConfigSpec;
+
+public class ConduitsCommonConfig {
+
+    public final ModConfigSpec.ConfigValue<Double> NETWORK_TICK_BUDGET;
+
+    public ConduitsCommonConfig(ModConfigSpec.Builder builder) {
+        builder.push("networks");
+            NETWORK_TICK_BUDGET = builder.comment("The time in milliseconds conduit networks may spend ticking per level, per tick. Networks that don't fit are carried over to the next tick. Set to 0 to disable the limit.")
+                .defineInRange("tickBudget", 10.0d, 0.0d, 1000.0d);
+        builder.pop();
+    }
+}
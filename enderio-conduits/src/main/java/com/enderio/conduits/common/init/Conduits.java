@@ -8,8 +8,11 @@ import com.enderio.conduits.EnderIOConduits;
 import com.enderio.conduits.common.conduit.type.energy.EnergyConduit;
 import com.enderio.conduits.common.conduit.type.energy.EnergyConduitNetworkContext;
 import com.enderio.conduits.common.conduit.type.fluid.FluidConduit;
+import com.enderio.conduits.common.conduit.type.fluid.FluidConduitNetworkContext;
 import com.enderio.conduits.common.conduit.type.item.ItemConduit;
+import com.enderio.conduits.common.conduit.type.item.ItemConduitNetworkContext;
 import com.enderio.conduits.common.conduit.type.redstone.RedstoneConduit;
+import com.enderio.conduits.common.conduit.type.redstone.RedstoneConduitNetworkContext;
 import net.minecraft.data.worldgen.BootstrapContext;
 import net.minecraft.resources.ResourceKey;
 import net.neoforged.bus.api.IEventBus;
@@ -57,6 +60,15 @@ public class Conduits {
         public static final Supplier<ConduitNetworkContextType<EnergyConduitNetworkContext>> ENERGY =
             CONDUIT_NETWORK_CONTEXT_TYPES.register("energy", () -> new ConduitNetworkContextType<>(EnergyConduitNetworkContext.CODEC,
                 EnergyConduitNetworkContext::new));
+
+        public static final Supplier<ConduitNetworkContextType<FluidConduitNetworkContext>> FLUID =
+            CONDUIT_NETWORK_CONTEXT_TYPES.register("fluid", () -> new ConduitNetworkContextType<>(null, FluidConduitNetworkContext::new));
+
+        public static final Supplier<ConduitNetworkContextType<ItemConduitNetworkContext>> ITEM =
+            CONDUIT_NETWORK_CONTEXT_TYPES.register("item", () -> new ConduitNetworkContextType<>(null, ItemConduitNetworkContext::new));
+
+        public static final Supplier<ConduitNetworkContextType<RedstoneConduitNetworkContext>> REDSTONE =
+            CONDUIT_NETWORK_CONTEXT_TYPES.register("redstone", () -> new ConduitNetworkContextType<>(null, RedstoneConduitNetworkContext::new));
     }
 
     public static void register(IEventBus bus) {
@@ -56,6 +56,10 @@ public class ConduitServerPayloadHandler {
     }
 
     public void handleTimerFilter(TimerFilterPacket packet, IPayloadContext context) {
+        if (packet.maxTicks() < 1) {
+            return;
+        }
+
         context.enqueueWork(() -> {
             ItemStack mainHandItem = context.player().getMainHandItem();
             var channels = mainHandItem.getCapability(EIOCapabilities.Filter.ITEM);
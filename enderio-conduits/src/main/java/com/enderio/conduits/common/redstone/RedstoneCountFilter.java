@@ -6,6 +6,7 @@ import com.enderio.conduits.common.network.CountFilterPacket;
 import com.mojang.serialization.Codec;
 import com.mojang.serialization.codecs.RecordCodecBuilder;
 import io.netty.buffer.ByteBuf;
+import net.minecraft.core.Direction;
 import net.minecraft.network.codec.ByteBufCodecs;
 import net.minecraft.network.codec.StreamCodec;
 import net.minecraft.util.ExtraCodecs;
@@ -22,23 +23,23 @@ public class RedstoneCountFilter implements RedstoneInsertFilter {
     }
 
     @Override
-    public int getOutputSignal(RedstoneConduitData data, DyeColor control) {
+    public int getOutputSignal(RedstoneConduitData data, Direction direction, DyeColor control) {
+        // The count is kept on the node, so the filter item is only written when it is configured.
+        RedstoneConduitData.FilterState state = data.getFilterState(direction);
         DyeColor channel = getChannel();
         int maxCount = getMaxCount();
-        boolean deactivated = isDeactivated();
-        int count = getCount();
-        if (data.isActive(channel) && deactivated) {
+        int count = state.count();
+        if (data.isActive(channel) && state.isDeactivated()) {
             count++;
-            deactivated = false;
+            state.setDeactivated(false);
         }
         if (!data.isActive(channel)) {
-            deactivated = true;
+            state.setDeactivated(true);
         }
         if (count > maxCount) {
             count = 1;
         }
-        setCount(count);
-        setDeactivated(deactivated);
+        state.setCount(count);
         return count == maxCount ? 15 : 0;
     }
 
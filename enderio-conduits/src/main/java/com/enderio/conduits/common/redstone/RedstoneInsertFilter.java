@@ -2,9 +2,13 @@ package com.enderio.conduits.common.redstone;
 
 import com.enderio.base.api.filter.ResourceFilter;
 import com.enderio.conduits.common.conduit.type.redstone.RedstoneConduitData;
+import net.minecraft.core.Direction;
 import net.minecraft.world.item.DyeColor;
 
 public interface RedstoneInsertFilter extends ResourceFilter {
 
-    int getOutputSignal(RedstoneConduitData data, DyeColor control);
+    /**
+     * @param direction the side of the node the signal is output on, used to look up runtime filter state on the node.
+     */
+    int getOutputSignal(RedstoneConduitData data, Direction direction, DyeColor control);
 }
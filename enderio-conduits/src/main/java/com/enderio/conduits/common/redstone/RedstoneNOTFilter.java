@@ -1,6 +1,7 @@
 package com.enderio.conduits.common.redstone;
 
 import com.enderio.conduits.common.conduit.type.redstone.RedstoneConduitData;
+import net.minecraft.core.Direction;
 import net.minecraft.world.item.DyeColor;
 
 public class RedstoneNOTFilter implements RedstoneInsertFilter {
@@ -11,7 +12,7 @@ public class RedstoneNOTFilter implements RedstoneInsertFilter {
     }
 
     @Override
-    public int getOutputSignal(RedstoneConduitData data, DyeColor control) {
+    public int getOutputSignal(RedstoneConduitData data, Direction direction, DyeColor control) {
         return data.isActive(control) ? 0 : 15;
     }
 }
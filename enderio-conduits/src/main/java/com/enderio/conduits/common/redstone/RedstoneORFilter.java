@@ -2,6 +2,7 @@ package com.enderio.conduits.common.redstone;
 
 import com.enderio.conduits.common.conduit.type.redstone.RedstoneConduitData;
 import com.enderio.conduits.common.init.ConduitComponents;
+import net.minecraft.core.Direction;
 import net.minecraft.world.item.DyeColor;
 import net.minecraft.world.item.ItemStack;
 
@@ -12,7 +13,7 @@ public class RedstoneORFilter extends DoubleRedstoneChannel implements RedstoneI
     }
 
     @Override
-    public int getOutputSignal(RedstoneConduitData data, DyeColor control) {
+    public int getOutputSignal(RedstoneConduitData data, Direction direction, DyeColor control) {
         boolean b = data.isActive(getFirstChannel()) || data.isActive(getSecondChannel());
         return b ? 15 : 0;
     }
@@ -5,6 +5,7 @@ import com.enderio.conduits.common.init.ConduitComponents;
 import com.mojang.serialization.Codec;
 import com.mojang.serialization.codecs.RecordCodecBuilder;
 import io.netty.buffer.ByteBuf;
+import net.minecraft.core.Direction;
 import net.minecraft.network.codec.ByteBufCodecs;
 import net.minecraft.network.codec.StreamCodec;
 import net.minecraft.world.item.DyeColor;
@@ -20,16 +21,17 @@ public class RedstoneTLatchFilter implements RedstoneInsertFilter {
     }
 
     @Override
-    public int getOutputSignal(RedstoneConduitData data, DyeColor control) {
-        boolean active1 = isActive();
-        if (data.isActive(control) && isDeactivated()) {
-            active1 = !active1;
-            setState(active1, false);
+    public int getOutputSignal(RedstoneConduitData data, Direction direction, DyeColor control) {
+        // The latch is kept on the node, so the filter item is never written while the conduit runs.
+        RedstoneConduitData.FilterState state = data.getFilterState(direction);
+        if (data.isActive(control) && state.isDeactivated()) {
+            state.setActive(!state.isActive());
+            state.setDeactivated(false);
         }
         if (!data.isActive(control)) {
-            setState(active1, true);
+            state.setDeactivated(true);
         }
-        return active1 ? 15 : 0;
+        return state.isActive() ? 15 : 0;
     }
 
     public boolean isActive() {
@@ -1,5 +1,6 @@
 package com.enderio.conduits.common.redstone;
 
+import com.enderio.conduits.common.conduit.type.redstone.RedstoneConduitTicker;
 import com.enderio.conduits.common.init.ConduitComponents;
 import com.mojang.serialization.Codec;
 import com.mojang.serialization.codecs.RecordCodecBuilder;
@@ -23,16 +24,14 @@ public class RedstoneTimerFilter implements RedstoneExtractFilter{
 
     @Override
     public int getInputSignal(Level level, BlockPos pos, Direction direction) {
-        int ticks = getTicks();
-        ticks += 2; //TODO Conduits tick every 2 ticks, so make this clear in the gui
+        // The phase comes from the game time, so the filter item is only written when it is configured.
+        // The pulse lasts as long as the conduit tick interval so every timer sees it exactly once per period.
         int maxTicks = getMaxTicks();
-        if (ticks >= maxTicks) {
-            ticks = 0;
-            setTimer(ticks, maxTicks);
+        if (maxTicks <= 0) {
             return 15;
         }
-        setTimer(ticks, maxTicks);
-        return 0;
+
+        return Math.floorMod(level.getGameTime(), maxTicks) < RedstoneConduitTicker.TICK_RATE ? 15 : 0;
     }
 
     public int getMaxTicks() {
@@ -44,11 +43,11 @@ public class RedstoneTimerFilter implements RedstoneExtractFilter{
     }
 
     public void setTimer(int ticks, int maxTicks) {
-        stack.set(ConduitComponents.REDSTONE_TIMER_FILTER, new Component(ticks, maxTicks));
+        stack.set(ConduitComponents.REDSTONE_TIMER_FILTER, new Component(Math.max(0, ticks), Math.max(1, maxTicks)));
     }
 
     public void setMaxTicks(int maxTicks) {
-        stack.set(ConduitComponents.REDSTONE_TIMER_FILTER, new Component(0, maxTicks));
+        stack.set(ConduitComponents.REDSTONE_TIMER_FILTER, new Component(0, Math.max(1, maxTicks)));
     }
 
     public record Component(int ticks, int maxTicks) {
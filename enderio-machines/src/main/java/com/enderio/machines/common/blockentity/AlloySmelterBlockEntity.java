@@ -13,7 +13,6 @@ import com.enderio.machines.common.blockentity.task.host.CraftingMachineTaskHost
 import com.enderio.machines.common.config.MachinesConfig;
 import com.enderio.machines.common.init.MachineBlockEntities;
 import com.enderio.machines.common.init.MachineDataComponents;
-import com.enderio.machines.common.init.MachineRecipes;
 import com.enderio.machines.common.io.energy.IMachineEnergyStorage;
 import com.enderio.machines.common.io.item.MachineInventory;
 import com.enderio.machines.common.io.item.MachineInventoryLayout;
@@ -22,6 +21,7 @@ import com.enderio.machines.common.io.item.SingleSlotAccess;
 import com.enderio.machines.common.menu.AlloySmelterMenu;
 import com.enderio.machines.common.recipe.AlloySmeltingRecipe;
 import com.enderio.machines.common.recipe.RecipeCaches;
+import com.enderio.machines.common.utility.RecipeInputCache;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.HolderLookup;
 import net.minecraft.core.component.DataComponentMap;
@@ -31,7 +31,6 @@ import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.inventory.AbstractContainerMenu;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.item.crafting.RecipeHolder;
-import net.minecraft.world.item.crafting.RecipeType;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.block.entity.BlockEntityType;
 import net.minecraft.world.level.block.state.BlockState;
@@ -40,7 +39,6 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.List;
-import java.util.Optional;
 import java.util.function.Supplier;
 
 // TODO: Award XP
@@ -73,7 +71,7 @@ public class AlloySmelterBlockEntity extends PoweredMachineBlockEntity {
 
         // Crafting task host
         craftingTaskHost = new AlloySmeltingMachineTaskHost(this, this::canAcceptTask,
-            MachineRecipes.ALLOY_SMELTING.type().get(), this::createTask, this::createRecipeInput);
+            RecipeCaches.ALL_ALLOY_SMELTING, this::createTask, this::createRecipeInput);
 
         // This can be changed by the gui for the normal and enhanced machines.
         if (!isPrimitiveSmelter()) {
@@ -311,29 +309,17 @@ public class AlloySmelterBlockEntity extends PoweredMachineBlockEntity {
     }
 
     protected class AlloySmeltingMachineTaskHost extends CraftingMachineTaskHost<AlloySmeltingRecipe, AlloySmeltingRecipe.Input> {
-        public AlloySmeltingMachineTaskHost(EnderBlockEntity blockEntity, Supplier<Boolean> canAcceptNewTask, RecipeType<AlloySmeltingRecipe> recipeType,
+        public AlloySmeltingMachineTaskHost(EnderBlockEntity blockEntity, Supplier<Boolean> canAcceptNewTask,
+            RecipeInputCache<AlloySmeltingRecipe.Input, AlloySmeltingRecipe> recipeCache,
             CraftingMachineTaskFactory<AlloySmeltingMachineTask, AlloySmeltingRecipe, AlloySmeltingRecipe.Input> taskFactory,
             Supplier<AlloySmeltingRecipe.Input> recipeInputSupplier) {
-            super(blockEntity, canAcceptNewTask, recipeType, taskFactory, recipeInputSupplier);
+            super(blockEntity, canAcceptNewTask, recipeCache, taskFactory, recipeInputSupplier);
         }
 
         @Override
-        protected Optional<RecipeHolder<AlloySmeltingRecipe>> findRecipe() {
-            var level = getLevel();
-            if (level == null) {
-                return Optional.empty();
-            }
-
-            var optionalRecipe = super.findRecipe();
-            if (optionalRecipe.isEmpty()) {
-                return Optional.empty();
-            }
-
-            if (optionalRecipe.get().value().isSmelting() ? !getMode().canSmelt() : !getMode().canAlloy()) {
-                return Optional.empty();
-            }
-
-            return optionalRecipe;
+        protected RecipeInputCache<AlloySmeltingRecipe.Input, AlloySmeltingRecipe> getRecipeCache() {
+            // Only look at the recipes the current mode allows.
+            return RecipeCaches.getAlloySmeltingCache(getMode());
         }
     }
 
@@ -13,7 +13,6 @@ import com.enderio.machines.common.blockentity.task.PoweredCraftingMachineTask;
 import com.enderio.machines.common.blockentity.task.host.CraftingMachineTaskHost;
 import com.enderio.machines.common.config.MachinesConfig;
 import com.enderio.machines.common.init.MachineBlockEntities;
-import com.enderio.machines.common.init.MachineRecipes;
 import com.enderio.machines.common.io.item.MachineInventoryLayout;
 import com.enderio.machines.common.io.item.SingleSlotAccess;
 import com.enderio.machines.common.menu.PaintingMachineMenu;
@@ -56,7 +55,7 @@ public class PaintingMachineBlockEntity extends PoweredMachineBlockEntity {
 
         area = AABB.ofSize(worldPosition.getCenter(), 10, 10, 10);
 
-        craftingTaskHost = new CraftingMachineTaskHost<>(this, this::hasEnergy, MachineRecipes.PAINTING.type().get(),
+        craftingTaskHost = new CraftingMachineTaskHost<>(this, this::hasEnergy, RecipeCaches.PAINTING,
             this::createTask, this::createRecipeInput);
     }
 
@@ -12,7 +12,6 @@ import com.enderio.machines.common.blockentity.task.host.CraftingMachineTaskHost
 import com.enderio.machines.common.config.MachinesConfig;
 import com.enderio.machines.common.init.MachineBlockEntities;
 import com.enderio.machines.common.init.MachineDataComponents;
-import com.enderio.machines.common.init.MachineRecipes;
 import com.enderio.machines.common.io.item.MachineInventory;
 import com.enderio.machines.common.io.item.MachineInventoryLayout;
 import com.enderio.machines.common.io.item.MultiSlotAccess;
@@ -60,7 +59,7 @@ public class SagMillBlockEntity extends PoweredMachineBlockEntity {
         addDataSlot(NetworkDataSlot.INT.create(() -> grindingBallDamage, i -> grindingBallDamage = i));
         addDataSlot(GRINDING_BALL_DATA_SLOT_TYPE.create(() -> grindingBallData, v -> grindingBallData = v));
 
-        craftingTaskHost = new CraftingMachineTaskHost<>(this, this::hasEnergy, MachineRecipes.SAG_MILLING.type().get(),
+        craftingTaskHost = new CraftingMachineTaskHost<>(this, this::hasEnergy, RecipeCaches.SAG_MILLING,
             this::createTask, this::createRecipeInput);
     }
 
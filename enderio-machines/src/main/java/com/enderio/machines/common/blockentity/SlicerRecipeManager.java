@@ -1,20 +1,12 @@
 package com.enderio.machines.common.blockentity;
 
-import com.enderio.machines.EnderIOMachines;
 import com.enderio.machines.common.init.MachineRecipes;
 import com.enderio.machines.common.recipe.SlicingRecipe;
-import net.minecraft.Util;
 import net.minecraft.world.item.Item;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.item.crafting.Ingredient;
 import net.minecraft.world.item.crafting.RecipeHolder;
 import net.minecraft.world.item.crafting.RecipeManager;
-import net.neoforged.bus.api.SubscribeEvent;
-import net.neoforged.fml.common.EventBusSubscriber;
-import net.neoforged.fml.util.thread.EffectiveSide;
-import net.neoforged.neoforge.client.event.RecipesUpdatedEvent;
-import net.neoforged.neoforge.event.AddReloadListenerEvent;
-import net.neoforged.neoforge.server.ServerLifecycleHooks;
 
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -22,33 +14,23 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 
-@EventBusSubscriber(modid = EnderIOMachines.MODULE_MOD_ID)
+/**
+ * Lookup of the items each slicer input slot accepts.
+ * Rebuilt through {@link com.enderio.machines.common.recipe.RecipeCaches} whenever recipes or tags reload.
+ */
 public class SlicerRecipeManager {
-    private static final List<Set<Item>> ITEMS = Util.make(() -> {
-        List<Set<Item>> tempList = new ArrayList<>();
-        for (int i = 0; i < 6; i++) {
-            tempList.add(new HashSet<>());
-        }
-        return tempList;
-    });
-
-    private static final List<Set<Ingredient>> NON_OPTIMIZABLE_INGREDIENTS = Util.make(() -> {
-        List<Set<Ingredient>> tempList = new ArrayList<>();
-        for (int i = 0; i < 6; i++) {
-            tempList.add(new HashSet<>());
-        }
-        return tempList;
-    });
+    private static final int SLOT_COUNT = 6;
 
-    private static boolean clearCache = false;
+    // Replaced as a whole when recipes reload, so lookups on any thread always see a complete index.
+    private static volatile Index index = new Index(emptySlots(), emptySlots());
 
     public static boolean isSlicerValid(ItemStack stack, int slot) {
-        checkCacheRebuild();
-        if (ITEMS.get(slot).contains(stack.getItem())) {
+        Index index = SlicerRecipeManager.index;
+        if (index.items().get(slot).contains(stack.getItem())) {
             return true;
         }
 
-        for (Ingredient ingredient : NON_OPTIMIZABLE_INGREDIENTS.get(slot)) {
+        for (Ingredient ingredient : index.nonOptimizableIngredients().get(slot)) {
             if (ingredient.test(stack)) {
                 return true;
             }
@@ -56,43 +38,44 @@ public class SlicerRecipeManager {
         return false;
     }
 
-    @SubscribeEvent
-    public static void registerReloadListener(AddReloadListenerEvent event) {
-        //Fired on datapack reload
-        clearCache = true;
-    }
-    @SubscribeEvent
-    public static void onRecipesUpdated(RecipesUpdatedEvent event) {
-        rebuildCache(event.getRecipeManager());
-    }
-
-    private static void checkCacheRebuild() {
-        if (clearCache && EffectiveSide.get().isServer()) {
-            rebuildCache(ServerLifecycleHooks.getCurrentServer().getRecipeManager());
-            clearCache = false;
-        }
-    }
-
-    private static void rebuildCache(RecipeManager manager) {
-
-        // Wipe the lookup table
-        for (Set<Item> item : ITEMS) {
-            item.clear();
-        }
-        for (Set<Ingredient> nonoptimizableingredient : NON_OPTIMIZABLE_INGREDIENTS) {
-            nonoptimizableingredient.clear();
-        }
+    /**
+     * Build a new index from the recipe manager. This doesn't touch the current index, so it is safe to call off the server thread.
+     * Tag ingredients are resolved while building, so only call this once the tags loaded alongside the recipes are bound.
+     */
+    public static Index buildIndex(RecipeManager manager) {
+        List<Set<Item>> items = emptySlots();
+        List<Set<Ingredient>> nonOptimizableIngredients = emptySlots();
 
         for (RecipeHolder<SlicingRecipe> slicingRecipe : manager.getAllRecipesFor(MachineRecipes.SLICING.type().get())) {
-            for (int i = 0; i < 6; i++) {
+            for (int i = 0; i < SLOT_COUNT; i++) {
                 Ingredient ingredient = slicingRecipe.value().inputs().get(i);
                 if (ingredient.isSimple()) {
-                    Set<Item> itemset = ITEMS.get(i);
+                    Set<Item> itemset = items.get(i);
                     Arrays.stream(ingredient.getItems()).map(ItemStack::getItem).forEach(itemset::add);
                 } else {
-                    NON_OPTIMIZABLE_INGREDIENTS.get(i).add(ingredient);
+                    nonOptimizableIngredients.get(i).add(ingredient);
                 }
             }
         }
+
+        return new Index(items, nonOptimizableIngredients);
+    }
+
+    public static void publishIndex(Index index) {
+        SlicerRecipeManager.index = index;
+    }
+
+    private static <T> List<Set<T>> emptySlots() {
+        List<Set<T>> tempList = new ArrayList<>();
+        for (int i = 0; i < SLOT_COUNT; i++) {
+            tempList.add(new HashSet<>());
+        }
+        return tempList;
+    }
+
+    /**
+     * The accepted items of each slot. None of these are modified once the index is built.
+     */
+    public record Index(List<Set<Item>> items, List<Set<Ingredient>> nonOptimizableIngredients) {
     }
 }
@@ -77,8 +77,14 @@ public class SoulBinderBlockEntity extends PoweredMachineBlockEntity implements
             i -> TANK.setFluid(this, new FluidStack(EIOFluids.XP_JUICE.getSource(), i))));
 
         // Create the crafting task host
-        craftingTaskHost = new CraftingMachineTaskHost<>(this, this::hasEnergy, MachineRecipes.SOUL_BINDING.type().get(),
-            this::createTask, this::createRecipeInput);
+        craftingTaskHost = new CraftingMachineTaskHost<>(this, this::hasEnergy, RecipeCaches.SOUL_BINDING,
+            this::createTask, this::createRecipeInput) {
+            @Override
+            protected long getInputModificationCount() {
+                // Recipes depend on the stored experience, which isn't counted, so always search for the recipe.
+                return UNTRACKED_INPUT;
+            }
+        };
     }
 
     @Override
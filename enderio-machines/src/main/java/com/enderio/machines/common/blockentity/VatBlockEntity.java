@@ -10,7 +10,6 @@ import com.enderio.machines.common.blockentity.base.MachineBlockEntity;
 import com.enderio.machines.common.blockentity.task.CraftingMachineTask;
 import com.enderio.machines.common.blockentity.task.host.CraftingMachineTaskHost;
 import com.enderio.machines.common.init.MachineBlockEntities;
-import com.enderio.machines.common.init.MachineRecipes;
 import com.enderio.machines.common.io.fluid.FluidItemInteractive;
 import com.enderio.machines.common.io.fluid.MachineFluidHandler;
 import com.enderio.machines.common.io.fluid.MachineFluidTank;
@@ -23,6 +22,7 @@ import com.enderio.machines.common.menu.VatMenu;
 import com.enderio.machines.common.network.VatDumpTankPacket;
 import com.enderio.machines.common.network.VatMoveTankPacket;
 import com.enderio.machines.common.recipe.FermentingRecipe;
+import com.enderio.machines.common.recipe.RecipeCaches;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.HolderLookup;
 import net.minecraft.core.component.DataComponentMap;
@@ -74,8 +74,14 @@ public class VatBlockEntity extends MachineBlockEntity implements FluidTankUser,
 
         addDataSlot(NetworkDataSlot.RESOURCE_LOCATION.create(this::getRecipeId, this::setRecipeId));
 
-        craftingTaskHost = new CraftingMachineTaskHost<>(this, () -> true, MachineRecipes.VAT_FERMENTING.type().get(), this::createTask,
-            this::createRecipeInput);
+        craftingTaskHost = new CraftingMachineTaskHost<>(this, () -> true, RecipeCaches.FERMENTING, this::createTask,
+            this::createRecipeInput) {
+            @Override
+            protected long getInputModificationCount() {
+                // The input tank isn't counted, so always search for the recipe.
+                return UNTRACKED_INPUT;
+            }
+        };
     }
 
     @Nullable
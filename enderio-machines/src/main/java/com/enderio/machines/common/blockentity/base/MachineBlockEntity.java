@@ -10,6 +10,7 @@ import com.enderio.core.common.network.NetworkDataSlot;
 import com.enderio.machines.common.MachineNBTKeys;
 import com.enderio.machines.common.block.MachineBlock;
 import com.enderio.machines.common.blockentity.MachineState;
+import com.enderio.machines.common.config.MachinesConfig;
 import com.enderio.machines.common.init.MachineAttachments;
 import com.enderio.machines.common.init.MachineDataComponents;
 import com.enderio.machines.common.io.IOConfig;
@@ -80,6 +81,20 @@ public abstract class MachineBlockEntity extends EnderBlockEntity implements Men
 
     private boolean isRedstoneBlocked;
 
+    // region Resource Movement
+
+    private static final Direction[] DIRECTIONS = Direction.values();
+
+    /**
+     * How long a side whose neighbour reported full is skipped, in case the neighbour changes without telling us.
+     */
+    private static final int FULL_SIDE_RETRY_INTERVAL = 100;
+
+    private final SideTransferState[] sideTransferStates = new SideTransferState[DIRECTIONS.length];
+    private int nextForcedSide;
+
+    // endregion
+
     // region Common Dataslots
 
     public static final NetworkDataSlot.CodecType<RedstoneControl> REDSTONE_CONTROL_DATA_SLOT_TYPE
@@ -396,11 +411,18 @@ public abstract class MachineBlockEntity extends EnderBlockEntity implements Men
      * Push and pull resources to/from other blocks.
      */
     private void forceResources() {
-        for (Direction direction : Direction.values()) {
+        long gameTime = level.getGameTime();
+
+        // Start from a different side every time, so a machine that can't fill all of its neighbours shares out evenly.
+        int firstSide = nextForcedSide;
+        nextForcedSide = (nextForcedSide + 1) % DIRECTIONS.length;
+
+        for (int i = 0; i < DIRECTIONS.length; i++) {
+            Direction direction = DIRECTIONS[(firstSide + i) % DIRECTIONS.length];
             if (getIOMode(direction).canForce()) {
-                // TODO: Maybe some kind of resource distributor so that items are transmitted evenly around? rather than taking the order of Direction.values()
-                moveItems(direction);
-                moveFluids(direction);
+                SideTransferState state = getSideTransferState(direction);
+                moveItems(direction, state, gameTime);
+                moveFluids(direction, state, gameTime);
             }
         }
     }
@@ -408,27 +430,98 @@ public abstract class MachineBlockEntity extends EnderBlockEntity implements Men
     /**
      * Move items to and from via the given side.
      */
-    private void moveItems(Direction side) {
+    private void moveItems(Direction side, SideTransferState state, long gameTime) {
         IItemHandler selfHandler = getSelfCapability(Capabilities.ItemHandler.BLOCK, side);
         IItemHandler otherHandler = getNeighbouringCapability(Capabilities.ItemHandler.BLOCK, side);
         if (selfHandler == null || otherHandler == null) {
             return;
         }
 
-        TransferUtil.distributeItems(getIOMode(side), selfHandler, otherHandler);
+        IOMode mode = getIOMode(side);
+        int maxItems = MachinesConfig.COMMON.ITEMS_PER_TRANSFER.get();
+
+        if (mode.canPush() && !state.isItemTargetFull(otherHandler, gameTime)) {
+            int result = TransferUtil.moveItemStacks(selfHandler, otherHandler, maxItems, state.itemTargetHint);
+            if (result >= 0) {
+                state.itemTargetHint = result;
+            } else if (result == TransferUtil.TARGET_FULL) {
+                state.fullItemTarget = otherHandler;
+                state.itemRetryTime = gameTime + FULL_SIDE_RETRY_INTERVAL;
+            }
+        }
+
+        if (mode.canPull()) {
+            TransferUtil.moveItemStacks(otherHandler, selfHandler, maxItems, 0);
+        }
     }
 
     /**
      * Move fluids to and from via the given side.
      */
-    private void moveFluids(Direction side) {
+    private void moveFluids(Direction side, SideTransferState state, long gameTime) {
         IFluidHandler selfHandler = getSelfCapability(Capabilities.FluidHandler.BLOCK, side);
         IFluidHandler otherHandler = getNeighbouringCapability(Capabilities.FluidHandler.BLOCK, side);
         if (selfHandler == null || otherHandler == null) {
             return;
         }
 
-        TransferUtil.distributeFluids(getIOMode(side), selfHandler, otherHandler);
+        IOMode mode = getIOMode(side);
+        int maxDrain = MachinesConfig.COMMON.FLUID_PER_TRANSFER.get();
+
+        if (mode.canPush() && !state.isFluidTargetFull(otherHandler, gameTime)) {
+            int result = TransferUtil.pushFluids(selfHandler, otherHandler, maxDrain);
+            if (result > 0) {
+                return;
+            }
+
+            if (result == TransferUtil.TARGET_FULL) {
+                state.fullFluidTarget = otherHandler;
+                state.fluidRetryTime = gameTime + FULL_SIDE_RETRY_INTERVAL;
+            }
+        }
+
+        if (mode.canPull()) {
+            TransferUtil.pullFluids(selfHandler, otherHandler, maxDrain);
+        }
+    }
+
+    private SideTransferState getSideTransferState(Direction side) {
+        SideTransferState state = sideTransferStates[side.ordinal()];
+        if (state == null) {
+            state = new SideTransferState();
+            sideTransferStates[side.ordinal()] = state;
+        }
+
+        return state;
+    }
+
+    /**
+     * What auto push remembers about one side between transfers.
+     */
+    private static class SideTransferState {
+        // The neighbour slot that last accepted items, tried first next time.
+        private int itemTargetHint;
+
+        // The neighbour handlers that last reported full. They are skipped until they change or the retry time passes.
+        @Nullable
+        private IItemHandler fullItemTarget;
+        private long itemRetryTime;
+        @Nullable
+        private IFluidHandler fullFluidTarget;
+        private long fluidRetryTime;
+
+        private boolean isItemTargetFull(IItemHandler target, long gameTime) {
+            return fullItemTarget == target && gameTime < itemRetryTime;
+        }
+
+        private boolean isFluidTargetFull(IFluidHandler target, long gameTime) {
+            return fullFluidTarget == target && gameTime < fluidRetryTime;
+        }
+
+        private void clearFullTargets() {
+            fullItemTarget = null;
+            fullFluidTarget = null;
+        }
     }
 
     // endregion
@@ -585,6 +678,16 @@ public abstract class MachineBlockEntity extends EnderBlockEntity implements Men
 
     public void neighborChanged(BlockState state, LevelReader level, BlockPos pos, BlockPos neighbor) {
         updateRedstone();
+
+        // The neighbour may have room again, so try pushing to it on the next transfer.
+        for (Direction direction : DIRECTIONS) {
+            if (pos.relative(direction).equals(neighbor)) {
+                SideTransferState transferState = sideTransferStates[direction.ordinal()];
+                if (transferState != null) {
+                    transferState.clearFullTargets();
+                }
+            }
+        }
     }
 
     private void updateRedstone() {
@@ -221,12 +221,19 @@ public abstract class PoweredMachineBlockEntity extends MachineBlockEntity imple
         return new MachineEnergyStorage(this, energyIOMode, capacity, usageRate) {
             @Override
             protected void onContentsChanged() {
-                setChanged();
-                updateMachineState(MachineState.NO_POWER, getEnergyStorage().getEnergyStored() <= 0);
+                onEnergyStorageChanged();
             }
         };
     }
 
+    /**
+     * Called whenever the contents of the energy storage change.
+     */
+    protected void onEnergyStorageChanged() {
+        setChanged();
+        updateMachineState(MachineState.NO_POWER, getEnergyStorage().getEnergyStored() <= 0);
+    }
+
     // endregion
 
     // region Capacitors
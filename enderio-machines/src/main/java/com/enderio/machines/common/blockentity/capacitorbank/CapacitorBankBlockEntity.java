@@ -7,7 +7,10 @@ import com.enderio.core.common.network.NetworkDataSlot;
 import com.enderio.machines.common.blockentity.base.MultiConfigurable;
 import com.enderio.machines.common.blockentity.base.PoweredMachineBlockEntity;
 import com.enderio.machines.common.blockentity.multienergy.CapacityTier;
+import com.enderio.machines.common.blockentity.multienergy.MultiEnergyController;
+import com.enderio.machines.common.blockentity.multienergy.MultiEnergyGraphContext;
 import com.enderio.machines.common.blockentity.multienergy.MultiEnergyNode;
+import com.enderio.machines.common.blockentity.multienergy.MultiEnergyNodeStorage;
 import com.enderio.machines.common.blockentity.multienergy.MultiEnergyStorageWrapper;
 import com.enderio.machines.common.blockentity.sync.LargeEnergyData;
 import com.enderio.machines.common.init.MachineBlockEntities;
@@ -15,8 +18,6 @@ import com.enderio.machines.common.io.energy.ILargeMachineEnergyStorage;
 import com.enderio.machines.common.io.energy.MachineEnergyStorage;
 import com.enderio.machines.common.menu.CapacitorBankMenu;
 import dev.gigaherz.graph3.Graph;
-import dev.gigaherz.graph3.GraphObject;
-import dev.gigaherz.graph3.Mergeable;
 import net.minecraft.Util;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
@@ -35,6 +36,8 @@ import java.util.ArrayList;
 import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
 
 public class CapacitorBankBlockEntity extends PoweredMachineBlockEntity implements MultiConfigurable {
 
@@ -42,9 +45,9 @@ public class CapacitorBankBlockEntity extends PoweredMachineBlockEntity implemen
 
     private final MultiEnergyNode node;
 
+    // Client copies of the graph's IO statistics, the server reads them from the graph's controller.
     private long addedEnergy = 0;
     private long removedEnergy = 0;
-    public static final int AVERAGE_IO_OVER_X_TICKS = 10;
     private final List<BlockPos> clientConfigurables = new ArrayList<>();
 
     private static final String DISPLAY_MODES = "displaymodes";
@@ -69,8 +72,8 @@ public class CapacitorBankBlockEntity extends PoweredMachineBlockEntity implemen
         this.tier = tier;
         this.node = new MultiEnergyNode(() -> energyStorage, () -> (MultiEnergyStorageWrapper) getExposedEnergyStorage(), worldPosition);
 
-        addDataSlot(NetworkDataSlot.LONG.create(() -> addedEnergy, data -> addedEnergy = data));
-        addDataSlot(NetworkDataSlot.LONG.create(() -> removedEnergy, data -> removedEnergy = data));
+        addDataSlot(NetworkDataSlot.LONG.create(() -> getController().map(MultiEnergyController::getAddedEnergy).orElse(0L), data -> addedEnergy = data));
+        addDataSlot(NetworkDataSlot.LONG.create(() -> getController().map(MultiEnergyController::getRemovedEnergy).orElse(0L), data -> removedEnergy = data));
         addDataSlot(POSITION_LIST_DATA_SLOT_TYPE.create(this::getPositions, this::setPositions));
         addDataSlot(DISPLAY_MODE_MAP_DATA_SLOT_TYPE.create(() -> displayModes, displayModes::putAll));
     }
@@ -88,6 +91,11 @@ public class CapacitorBankBlockEntity extends PoweredMachineBlockEntity implemen
         return new CapacitorBankMenu(pContainerId, this, pPlayerInventory);
     }
 
+    @Override
+    protected MachineEnergyStorage createEnergyStorage(EnergyIOMode energyIOMode, Supplier<Integer> capacity, Supplier<Integer> usageRate) {
+        return new MultiEnergyNodeStorage(this, energyIOMode, capacity, usageRate, () -> node, this::onEnergyStorageChanged);
+    }
+
     @Override
     public @Nullable MachineEnergyStorage createExposedEnergyStorage() {
         return new MultiEnergyStorageWrapper(this, EnergyIOMode.Both, () -> tier);
@@ -96,60 +104,11 @@ public class CapacitorBankBlockEntity extends PoweredMachineBlockEntity implemen
     @Override
     public void serverTick() {
         super.serverTick();
-        if (level.getGameTime() % AVERAGE_IO_OVER_X_TICKS == 0 && node.getWrapper().get().getLastResetTime() != level.getGameTime()) {
-            if (node.getGraph() != null) {
-                addedEnergy = 0;
-                removedEnergy = 0;
-                List<GraphObject<Mergeable.Dummy>> nodes = new ArrayList<>(node.getGraph().getObjects());
-                for (GraphObject<Mergeable.Dummy> object : nodes) {
-                    if (object instanceof MultiEnergyNode graphNode) {
-                        addedEnergy += graphNode.getWrapper().get().getAddedEnergy();
-                        removedEnergy += graphNode.getWrapper().get().getRemovedEnergy();
-                        graphNode.getWrapper().get().resetEnergyStats(level.getGameTime());
-                    }
-                }
-
-                //Sync it back to other capacitor bank in this graph, only one can do this calculation, because each node is reset at once
-                for (GraphObject<Mergeable.Dummy> object : nodes) {
-                    if (object instanceof MultiEnergyNode graphNode && level.getBlockEntity(graphNode.pos) instanceof CapacitorBankBlockEntity capacitorBank) {
-                        capacitorBank.addedEnergy = addedEnergy;
-                        capacitorBank.removedEnergy = removedEnergy;
-                    }
-                }
-            }
-        }
-
-        if (level.getGameTime() % 200 == hashCode() % 200 && node.getGraph() != null && List.copyOf(node.getGraph().getObjects()).indexOf(node) == 0) {
-            long cumulativeEnergy = 0;
-            for (GraphObject<Mergeable.Dummy> object : node.getGraph().getObjects()) {
-                if (object instanceof MultiEnergyNode otherNode) {
-                    cumulativeEnergy += otherNode.getInternal().get().getEnergyStored();
-                }
-            }
-
-            int energyPerNode = (int)(cumulativeEnergy / node.getGraph().getObjects().size());
-
-            for (GraphObject<Mergeable.Dummy> object : node.getGraph().getObjects()) {
-                if (object instanceof MultiEnergyNode otherNode) {
-                    ((MachineEnergyStorage)(otherNode.getInternal().get())).setEnergyStored(Math.min(energyPerNode, (int)Math.min(cumulativeEnergy, Integer.MAX_VALUE)));
-                    cumulativeEnergy-=energyPerNode;
-                }
-            }
-
-            int remainingEnergy = (int)cumulativeEnergy;
-            if (remainingEnergy <= 0) {
-                return;
-            }
 
-            for (GraphObject<Mergeable.Dummy> object : node.getGraph().getObjects()) {
-                if (object instanceof MultiEnergyNode otherNode) {
-                    int received = otherNode.getInternal().get().receiveEnergy(remainingEnergy, false);
-                    remainingEnergy-=received;
-                    if (remainingEnergy <= 0) {
-                        return;
-                    }
-                }
-            }
+        // Only the first bank of the graph to tick does the graph's work, the rest return straight away.
+        Graph<MultiEnergyGraphContext> graph = node.getGraph();
+        if (graph != null && graph.getContextData() != null) {
+            graph.getContextData().getController().tick(graph, graph.getContextData(), level.getGameTime());
         }
     }
 
@@ -207,23 +166,18 @@ public class CapacitorBankBlockEntity extends PoweredMachineBlockEntity implemen
 
     @Override
     public void setRemoved() {
-        if (node.getGraph() != null) {
-            node.getGraph().remove(node);
-        }
-
+        node.remove();
         super.setRemoved();
     }
 
     @Override
     public void onLoad() {
         super.onLoad();
-        if (node.getGraph() == null) {
-            Graph.integrate(node, List.of());
-        }
+        node.integrate();
 
         for (Direction direction: Direction.values()) {
             if (level.getBlockEntity(worldPosition.relative(direction)) instanceof CapacitorBankBlockEntity capacitor && capacitor.tier == tier) {
-                Graph.connect(node, capacitor.node);
+                node.connect(capacitor.node);
             }
         }
     }
@@ -238,17 +192,21 @@ public class CapacitorBankBlockEntity extends PoweredMachineBlockEntity implemen
     }
 
     private List<BlockPos> getPositions() {
-        if (node.getGraph() == null) {
+        Graph<MultiEnergyGraphContext> graph = node.getGraph();
+        if (graph == null || graph.getContextData() == null) {
             return List.of();
         }
 
-        List<BlockPos> positions = new ArrayList<>();
-        for (GraphObject<Mergeable.Dummy> object : node.getGraph().getObjects()) {
-            if (object instanceof MultiEnergyNode otherNode) {
-                positions.add(otherNode.pos);
-            }
+        return graph.getContextData().getController().getPositions(graph, graph.getContextData());
+    }
+
+    private Optional<MultiEnergyController> getController() {
+        Graph<MultiEnergyGraphContext> graph = node.getGraph();
+        if (graph == null || graph.getContextData() == null) {
+            return Optional.empty();
         }
-        return positions;
+
+        return Optional.of(graph.getContextData().getController());
     }
 
     public boolean onShiftRightClick(Direction direction, Player player) {
@@ -269,11 +227,11 @@ public class CapacitorBankBlockEntity extends PoweredMachineBlockEntity implemen
     }
 
     public long getAddedEnergy() {
-        return addedEnergy / AVERAGE_IO_OVER_X_TICKS;
+        return addedEnergy / MultiEnergyController.AVERAGE_IO_OVER_X_TICKS;
     }
 
     public long getRemovedEnergy() {
-        return removedEnergy / AVERAGE_IO_OVER_X_TICKS;
+        return removedEnergy / MultiEnergyController.AVERAGE_IO_OVER_X_TICKS;
     }
 
     public DisplayMode getDisplayMode(Direction direction) {
@@ -0,0 +1,134 @@
+package com.enderio.machines.common.blockentity.multienergy;
+
+import com.enderio.machines.common.io.energy.MachineEnergyStorage;
+import dev.gigaherz.graph3.Graph;
+import net.minecraft.core.BlockPos;
+import net.minecraft.util.Mth;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Graph-wide work of a multi-energy multiblock, done once per tick no matter how many blocks ask for it.
+ * Owns the IO statistics of the graph and evens out the energy held by each node.
+ * It lives on the graph context, so every graph produced by a split or merge gets its own controller.
+ */
+public class MultiEnergyController {
+
+    public static final int AVERAGE_IO_OVER_X_TICKS = 10;
+    public static final int REBALANCE_INTERVAL = 200;
+
+    private long addedEnergy;
+    private long removedEnergy;
+    private long lastAddedEnergy;
+    private long lastRemovedEnergy;
+
+    private long lastTickTime = -1;
+
+    @Nullable
+    private List<MultiEnergyNode> positionsSource;
+    private List<BlockPos> positions = List.of();
+
+    public MultiEnergyController() {
+    }
+
+    private MultiEnergyController(long lastAddedEnergy, long lastRemovedEnergy) {
+        this.lastAddedEnergy = lastAddedEnergy;
+        this.lastRemovedEnergy = lastRemovedEnergy;
+    }
+
+    /**
+     * Run the graph's work for this tick. Only the first call in a tick does anything.
+     */
+    public void tick(Graph<MultiEnergyGraphContext> graph, MultiEnergyGraphContext context, long gameTime) {
+        if (lastTickTime == gameTime) {
+            return;
+        }
+
+        lastTickTime = gameTime;
+
+        if (gameTime % AVERAGE_IO_OVER_X_TICKS == 0) {
+            lastAddedEnergy = addedEnergy;
+            lastRemovedEnergy = removedEnergy;
+            addedEnergy = 0;
+            removedEnergy = 0;
+        }
+
+        int rebalanceSlot = Math.floorMod(Mth.murmurHash3Mixer(System.identityHashCode(this)), REBALANCE_INTERVAL);
+        if (Math.floorMod(gameTime, REBALANCE_INTERVAL) == rebalanceSlot) {
+            rebalance(context.getNodes(graph), context.getEnergyStored(graph));
+        }
+    }
+
+    public void onEnergyAdded(long energy) {
+        addedEnergy += energy;
+    }
+
+    public void onEnergyRemoved(long energy) {
+        removedEnergy += energy;
+    }
+
+    /**
+     * @return the energy added to the graph over the last {@link #AVERAGE_IO_OVER_X_TICKS} ticks.
+     */
+    public long getAddedEnergy() {
+        return lastAddedEnergy;
+    }
+
+    /**
+     * @return the energy removed from the graph over the last {@link #AVERAGE_IO_OVER_X_TICKS} ticks.
+     */
+    public long getRemovedEnergy() {
+        return lastRemovedEnergy;
+    }
+
+    /**
+     * @return the positions of the graph's nodes, cached until the graph's membership changes.
+     */
+    public List<BlockPos> getPositions(Graph<MultiEnergyGraphContext> graph, MultiEnergyGraphContext context) {
+        List<MultiEnergyNode> nodes = context.getNodes(graph);
+        if (positionsSource != nodes) {
+            List<BlockPos> nodePositions = new ArrayList<>(nodes.size());
+            for (MultiEnergyNode node : nodes) {
+                nodePositions.add(node.pos);
+            }
+
+            positions = Collections.unmodifiableList(nodePositions);
+            positionsSource = nodes;
+        }
+
+        return positions;
+    }
+
+    public MultiEnergyController mergeWith(MultiEnergyController other) {
+        return new MultiEnergyController(lastAddedEnergy + other.lastAddedEnergy, lastRemovedEnergy + other.lastRemovedEnergy);
+    }
+
+    public MultiEnergyController copy() {
+        return new MultiEnergyController(lastAddedEnergy, lastRemovedEnergy);
+    }
+
+    private static void rebalance(List<MultiEnergyNode> nodes, long cumulativeEnergy) {
+        if (nodes.isEmpty()) {
+            return;
+        }
+
+        int energyPerNode = (int) Math.min(cumulativeEnergy / nodes.size(), Integer.MAX_VALUE);
+        long remainingEnergy = cumulativeEnergy;
+
+        for (MultiEnergyNode node : nodes) {
+            ((MachineEnergyStorage) node.getInternal().get()).setEnergyStored(energyPerNode);
+            remainingEnergy -= energyPerNode;
+        }
+
+        for (MultiEnergyNode node : nodes) {
+            if (remainingEnergy <= 0) {
+                return;
+            }
+
+            remainingEnergy -= node.getInternal().get().receiveEnergy((int) Math.min(remainingEnergy, Integer.MAX_VALUE), false);
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.enderio.machines.common.blockentity.multienergy;
+
+import dev.gigaherz.graph3.Graph;
+import dev.gigaherz.graph3.GraphObject;
+import dev.gigaherz.graph3.Mergeable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Running energy total and node list of a multi-energy graph, so the wrapper doesn't visit every node on each query.
+ * Both are rebuilt on next access after the graph's membership changes, and the total is kept up to date by node deltas in between.
+ * Also holds the graph's {@link MultiEnergyController}.
+ */
+public class MultiEnergyGraphContext implements Mergeable<MultiEnergyGraphContext> {
+
+    private boolean isValid;
+    private long energyStored;
+    private List<MultiEnergyNode> nodes = List.of();
+
+    // Where the next add or take starts, so energy is spread over the nodes instead of always filling the first ones.
+    private int cursor;
+
+    private final MultiEnergyController controller;
+
+    public MultiEnergyGraphContext() {
+        this(new MultiEnergyController());
+    }
+
+    private MultiEnergyGraphContext(MultiEnergyController controller) {
+        this.controller = controller;
+    }
+
+    public void onMembershipChanged() {
+        isValid = false;
+    }
+
+    public void onEnergyChanged(long delta) {
+        if (isValid) {
+            energyStored += delta;
+        }
+    }
+
+    public long getEnergyStored(Graph<MultiEnergyGraphContext> graph) {
+        refresh(graph);
+        return energyStored;
+    }
+
+    /**
+     * @return an unmodifiable view of the graph's nodes.
+     */
+    public List<MultiEnergyNode> getNodes(Graph<MultiEnergyGraphContext> graph) {
+        refresh(graph);
+        return nodes;
+    }
+
+    public MultiEnergyController getController() {
+        return controller;
+    }
+
+    public int getCursor() {
+        return cursor;
+    }
+
+    public void setCursor(int cursor) {
+        this.cursor = cursor;
+    }
+
+    private void refresh(Graph<MultiEnergyGraphContext> graph) {
+        if (isValid) {
+            return;
+        }
+
+        List<MultiEnergyNode> graphNodes = new ArrayList<>(graph.getObjects().size());
+        long total = 0;
+        for (GraphObject<MultiEnergyGraphContext> object : graph.getObjects()) {
+            if (object instanceof MultiEnergyNode node) {
+                graphNodes.add(node);
+                total += node.getInternal().get().getEnergyStored();
+            }
+        }
+
+        nodes = Collections.unmodifiableList(graphNodes);
+        energyStored = total;
+        isValid = true;
+    }
+
+    @Override
+    public MultiEnergyGraphContext mergeWith(MultiEnergyGraphContext other) {
+        return new MultiEnergyGraphContext(controller.mergeWith(other.controller));
+    }
+
+    @Override
+    public MultiEnergyGraphContext copy() {
+        return new MultiEnergyGraphContext(controller.copy());
+    }
+}
@@ -2,17 +2,17 @@ package com.enderio.machines.common.blockentity.multienergy;
 
 import dev.gigaherz.graph3.Graph;
 import dev.gigaherz.graph3.GraphObject;
-import dev.gigaherz.graph3.Mergeable;
 import net.minecraft.core.BlockPos;
 import net.neoforged.neoforge.energy.IEnergyStorage;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.List;
 import java.util.function.Supplier;
 
-public class MultiEnergyNode implements GraphObject<Mergeable.Dummy> {
+public class MultiEnergyNode implements GraphObject<MultiEnergyGraphContext> {
 
     @Nullable
-    private Graph<Mergeable.Dummy> graph = null;
+    private Graph<MultiEnergyGraphContext> graph = null;
 
     private final Supplier<IEnergyStorage> internal;
     private final Supplier<MultiEnergyStorageWrapper> wrapper;
@@ -26,12 +26,17 @@ public class MultiEnergyNode implements GraphObject<Mergeable.Dummy> {
 
     @Override
     @Nullable
-    public Graph<Mergeable.Dummy> getGraph() {
+    public Graph<MultiEnergyGraphContext> getGraph() {
         return graph;
     }
 
     @Override
-    public void setGraph(Graph<Mergeable.Dummy> g) {
+    public void setGraph(@Nullable Graph<MultiEnergyGraphContext> g) {
+        if (this.graph != g) {
+            onMembershipChanged(this.graph);
+            onMembershipChanged(g);
+        }
+
         this.graph = g;
         getWrapper().get().setGraph(g);
     }
@@ -43,4 +48,39 @@ public class MultiEnergyNode implements GraphObject<Mergeable.Dummy> {
     public Supplier<MultiEnergyStorageWrapper> getWrapper() {
         return wrapper;
     }
+
+    /**
+     * Keep the graph's running total in line with a change to this node's own storage.
+     */
+    public void onEnergyChanged(long delta) {
+        if (graph != null && graph.getContextData() != null && delta != 0) {
+            graph.getContextData().onEnergyChanged(delta);
+        }
+    }
+
+    public void integrate() {
+        if (graph == null) {
+            Graph.integrate(this, List.of(), Graph::new, g -> new MultiEnergyGraphContext());
+        }
+    }
+
+    public void connect(MultiEnergyNode other) {
+        Graph.connect(this, other, Graph::new, g -> new MultiEnergyGraphContext());
+    }
+
+    public void remove() {
+        Graph<MultiEnergyGraphContext> oldGraph = graph;
+        if (oldGraph != null) {
+            oldGraph.remove(this);
+
+            // Removing an object doesn't always move the remaining ones to a new graph, so membership tracking won't see it.
+            onMembershipChanged(oldGraph);
+        }
+    }
+
+    private static void onMembershipChanged(@Nullable Graph<MultiEnergyGraphContext> graph) {
+        if (graph != null && graph.getContextData() != null) {
+            graph.getContextData().onMembershipChanged();
+        }
+    }
 }
@@ -0,0 +1,40 @@
+package com.enderio.machines.common.blockentity.multienergy;
+
+import com.enderio.base.api.io.IOConfigurable;
+import com.enderio.base.api.io.energy.EnergyIOMode;
+import com.enderio.machines.common.io.energy.MachineEnergyStorage;
+
+import java.util.function.Supplier;
+
+/**
+ * Energy storage of a single block in a multi-energy graph, reporting every change to the graph's running total.
+ */
+public class MultiEnergyNodeStorage extends MachineEnergyStorage {
+
+    private final Supplier<MultiEnergyNode> node;
+    private final Runnable onContentsChanged;
+
+    public MultiEnergyNodeStorage(IOConfigurable config, EnergyIOMode ioMode, Supplier<Integer> capacity, Supplier<Integer> usageRate,
+        Supplier<MultiEnergyNode> node, Runnable onContentsChanged) {
+        super(config, ioMode, capacity, usageRate);
+        this.node = node;
+        this.onContentsChanged = onContentsChanged;
+    }
+
+    @Override
+    public void setEnergyStored(int energy) {
+        int energyBefore = getEnergyStored();
+        super.setEnergyStored(energy);
+
+        // The node is created after the storage, so it may not exist yet while the block entity is being set up.
+        MultiEnergyNode graphNode = node.get();
+        if (graphNode != null) {
+            graphNode.onEnergyChanged(getEnergyStored() - energyBefore);
+        }
+    }
+
+    @Override
+    protected void onContentsChanged() {
+        onContentsChanged.run();
+    }
+}
@@ -5,33 +5,25 @@ import com.enderio.base.api.io.energy.EnergyIOMode;
 import com.enderio.machines.common.io.energy.ILargeMachineEnergyStorage;
 import com.enderio.machines.common.io.energy.MachineEnergyStorage;
 import dev.gigaherz.graph3.Graph;
-import dev.gigaherz.graph3.GraphObject;
-import dev.gigaherz.graph3.Mergeable;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
 import java.util.function.Supplier;
+import java.util.function.ToIntBiFunction;
 
 public class MultiEnergyStorageWrapper extends MachineEnergyStorage implements ILargeMachineEnergyStorage {
 
     @Nullable
-    private Graph<Mergeable.Dummy> graph;
+    private Graph<MultiEnergyGraphContext> graph;
 
     private final Supplier<CapacityTier> tier;
 
-    private long addedEnergy = 0;
-    private long removedEnergy = 0;
-
-    private long lastResetTime = 0;
-
     public MultiEnergyStorageWrapper(IOConfigurable config, EnergyIOMode ioMode, Supplier<CapacityTier> tier) {
         super(config, ioMode, () -> tier.get().getStorageCapacity(), () -> tier.get().getStorageCapacity());
         this.tier = tier;
     }
 
-    public void setGraph(Graph<Mergeable.Dummy> graph) {
+    public void setGraph(@Nullable Graph<MultiEnergyGraphContext> graph) {
         this.graph = graph;
     }
 
@@ -43,19 +35,13 @@ public class MultiEnergyStorageWrapper extends MachineEnergyStorage implements I
 
     @Override
     public long getLargeEnergyStored() {
-        if (graph == null) {
+        if (graph == null || graph.getContextData() == null) {
             return 0;
         }
 
-        long cumulativeEnergy = 0;
-        for (GraphObject<Mergeable.Dummy> object : graph.getObjects()) {
-            if (object instanceof MultiEnergyNode panelNode) {
-                cumulativeEnergy += panelNode.getInternal().get().getEnergyStored();
-            }
-        }
-
-        return cumulativeEnergy;
+        return graph.getContextData().getEnergyStored(graph);
     }
+
     @Override
     public int getMaxEnergyStored() {
         return (int)(Math.min(getLargeMaxEnergyStored(), Integer.MAX_VALUE));
@@ -87,64 +73,51 @@ public class MultiEnergyStorageWrapper extends MachineEnergyStorage implements I
 
     @Override
     public int takeEnergy(int energy) {
-        if (graph == null || energy == 0) {
-            return 0;
+        int taken = distribute(energy, (node, remaining) -> node.getInternal().get().extractEnergy(remaining, false));
+        if (taken > 0) {
+            graph.getContextData().getController().onEnergyRemoved(taken);
         }
 
-        int cumulativeEnergy = 0;
-        List<GraphObject<Mergeable.Dummy>> nodes = new ArrayList<>(graph.getObjects());
-        Collections.shuffle(nodes);
-        //shuffle to extractChannel randomly to prevent some solar panels from being full and some being empty
-        for (GraphObject<Mergeable.Dummy> object : nodes) {
-            if (object instanceof MultiEnergyNode node) {
-                cumulativeEnergy += node.getInternal().get().extractEnergy(energy - cumulativeEnergy, false);
-                if (energy - cumulativeEnergy <= 0) {
-                    break;
-                }
-            }
-        }
-        removedEnergy += cumulativeEnergy;
-        return cumulativeEnergy;
+        return taken;
     }
 
     @Override
     public int addEnergy(int energy) {
-        if (graph == null || energy == 0) {
-            return 0;
+        int added = distribute(energy, (node, remaining) -> node.getInternal().get().receiveEnergy(remaining, false));
+        if (added > 0) {
+            graph.getContextData().getController().onEnergyAdded(added);
         }
 
-        int cumulativeEnergy = 0;
-        List<GraphObject<Mergeable.Dummy>> nodes = new ArrayList<>(graph.getObjects());
-        Collections.shuffle(nodes);
-        //shuffle to extractChannel randomly to prevent some solar panels from being full and some being empty
-        for (GraphObject<Mergeable.Dummy> object : nodes) {
-            if (object instanceof MultiEnergyNode node) {
-                cumulativeEnergy += node.getInternal().get().receiveEnergy(energy - cumulativeEnergy, false);
-                if (energy - cumulativeEnergy <= 0) {
-                    break;
-                }
-            }
-        }
-        addedEnergy += cumulativeEnergy;
-        return cumulativeEnergy;
+        return added;
     }
 
-    public long getAddedEnergy() {
-        return addedEnergy;
-    }
+    /**
+     * Move energy into or out of the nodes, starting after the node the previous call stopped at.
+     * This spreads energy over the graph so some nodes aren't full while others are empty.
+     */
+    private int distribute(int energy, ToIntBiFunction<MultiEnergyNode, Integer> transfer) {
+        if (graph == null || graph.getContextData() == null || energy == 0) {
+            return 0;
+        }
 
-    public long getRemovedEnergy() {
-        return removedEnergy;
-    }
-    public void resetEnergyStats(long gameTime) {
-        if (lastResetTime != gameTime) {
-            addedEnergy = 0;
-            removedEnergy = 0;
-            lastResetTime = gameTime;
+        MultiEnergyGraphContext context = graph.getContextData();
+        List<MultiEnergyNode> nodes = context.getNodes(graph);
+        if (nodes.isEmpty()) {
+            return 0;
         }
-    }
 
-    public long getLastResetTime() {
-        return lastResetTime;
+        int start = context.getCursor() % nodes.size();
+        int cumulativeEnergy = 0;
+        for (int i = 0; i < nodes.size(); i++) {
+            int index = (start + i) % nodes.size();
+            cumulativeEnergy += transfer.applyAsInt(nodes.get(index), energy - cumulativeEnergy);
+            if (energy - cumulativeEnergy <= 0) {
+                context.setCursor(index + 1);
+                return cumulativeEnergy;
+            }
+        }
+
+        context.setCursor(start + 1);
+        return cumulativeEnergy;
     }
 }
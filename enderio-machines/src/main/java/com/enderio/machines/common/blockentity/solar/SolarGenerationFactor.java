@@ -0,0 +1,101 @@
+package com.enderio.machines.common.blockentity.solar;
+
+import net.minecraft.world.level.Level;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Time of day and weather part of solar generation. It is the same for every panel in a level, so it is computed at most once per tick.
+ */
+public final class SolarGenerationFactor {
+
+    private static final int MINUTE_IN_TICKS = 20 * 60;
+
+    private static final Map<Level, SolarGenerationFactor> FACTORS = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private long lastUpdateTime = Long.MIN_VALUE;
+    private double alwaysFactor;
+    private double dayFactor;
+    private double nightFactor;
+    private double noneFactor;
+
+    private SolarGenerationFactor() {
+    }
+
+    public static SolarGenerationFactor get(Level level) {
+        SolarGenerationFactor factor = FACTORS.computeIfAbsent(level, l -> new SolarGenerationFactor());
+        factor.update(level);
+        return factor;
+    }
+
+    /**
+     * @param day whether the panel generates during the day.
+     * @param night whether the panel generates during the night.
+     * @param hasLiquidSunshine whether a day panel generates all day long.
+     * @return the share of the panel's production rate it generates this tick, between 0 and 1.
+     */
+    public double get(boolean day, boolean night, boolean hasLiquidSunshine) {
+        if ((day && night) || (day && hasLiquidSunshine)) {
+            return alwaysFactor;
+        } else if (day) {
+            return dayFactor;
+        } else if (night) {
+            return nightFactor;
+        }
+
+        return noneFactor;
+    }
+
+    private void update(Level level) {
+        if (lastUpdateTime == level.getGameTime()) {
+            return;
+        }
+
+        lastUpdateTime = level.getGameTime();
+
+        double weather = 0;
+        if (level.isRaining() && !level.isThundering()) {
+            weather -= 0.3f;
+        }
+
+        if (level.isThundering()) {
+            weather -= 0.7f;
+        }
+
+        int dayTime = (int) (level.getDayTime() % (MINUTE_IN_TICKS * 20));
+
+        alwaysFactor = clamp(easing(1) + weather);
+        noneFactor = clamp(easing(0) + weather);
+
+        if (dayTime > MINUTE_IN_TICKS * 9 || dayTime < MINUTE_IN_TICKS) {
+            dayFactor = 0;
+        } else {
+            float progress = dayTime > MINUTE_IN_TICKS * 5 ? 10 * MINUTE_IN_TICKS - dayTime : dayTime;
+            progress = (progress - MINUTE_IN_TICKS) / (4 * MINUTE_IN_TICKS);
+            dayFactor = clamp(easing(progress) + weather);
+        }
+
+        if (dayTime < MINUTE_IN_TICKS * 11 || dayTime > MINUTE_IN_TICKS * 18) {
+            nightFactor = 0;
+        } else {
+            float progress = dayTime > MINUTE_IN_TICKS * 15 ? 20 * MINUTE_IN_TICKS - dayTime : MINUTE_IN_TICKS * 15 - dayTime;
+            progress = (progress - MINUTE_IN_TICKS) / (4 * MINUTE_IN_TICKS);
+            nightFactor = clamp(easing(progress) + weather);
+        }
+    }
+
+    private static double clamp(double factor) {
+        return Math.max(factor, 0);
+    }
+
+    //Reference: EaseInOutQuad Function
+    private static double easing(float progress) {
+        if (progress > 0.5f) {
+            return 1 - Math.pow(-2*progress + 2, 2)/2;
+        }
+
+        return 2 * progress * progress;
+    }
+}
@@ -9,15 +9,15 @@ import com.enderio.base.common.tag.EIOTags;
 import com.enderio.core.common.network.NetworkDataSlot;
 import com.enderio.machines.common.MachineNBTKeys;
 import com.enderio.machines.common.blockentity.base.PoweredMachineBlockEntity;
+import com.enderio.machines.common.blockentity.multienergy.MultiEnergyGraphContext;
 import com.enderio.machines.common.blockentity.multienergy.MultiEnergyNode;
+import com.enderio.machines.common.blockentity.multienergy.MultiEnergyNodeStorage;
 import com.enderio.machines.common.blockentity.multienergy.MultiEnergyStorageWrapper;
 import com.enderio.machines.common.init.MachineBlockEntities;
 import com.enderio.machines.common.io.IOConfig;
 import com.enderio.machines.common.io.energy.MachineEnergyStorage;
 import com.enderio.machines.common.souldata.SolarSoul;
-import dev.gigaherz.graph3.Graph;
 import dev.gigaherz.graph3.GraphObject;
-import dev.gigaherz.graph3.Mergeable;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
 import net.minecraft.core.HolderLookup;
@@ -27,13 +27,14 @@ import net.minecraft.resources.ResourceLocation;
 import net.minecraft.world.entity.player.Inventory;
 import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.inventory.AbstractContainerMenu;
+import net.minecraft.world.level.LevelReader;
 import net.minecraft.world.level.block.state.BlockState;
 import net.neoforged.bus.api.SubscribeEvent;
 import net.neoforged.neoforge.client.event.RecipesUpdatedEvent;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.List;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 import static com.enderio.machines.common.blockentity.PoweredSpawnerBlockEntity.NO_MOB;
 
@@ -48,6 +49,15 @@ public class SolarPanelBlockEntity extends PoweredMachineBlockEntity {
     private static boolean reload = false;
     private boolean reloadCache = !reload;
 
+    private static final int SKY_CHECK_INTERVAL = 20;
+
+    // Cached views of the panel's surroundings, cleared when a neighbour changes.
+    @Nullable
+    private Boolean canSeeSky;
+    private long skyCheckTime;
+    @Nullable
+    private Boolean hasLiquidSunshine;
+
     public SolarPanelBlockEntity(BlockPos worldPosition, BlockState blockState, SolarPanelTier tier) {
         super(EnergyIOMode.Output, new FixedScalable(tier::getStorageCapacity), new FixedScalable(tier::getStorageCapacity),
             MachineBlockEntities.SOLAR_PANELS.get(tier).get(), worldPosition, blockState);
@@ -63,6 +73,11 @@ public class SolarPanelBlockEntity extends PoweredMachineBlockEntity {
         return null;
     }
 
+    @Override
+    protected MachineEnergyStorage createEnergyStorage(EnergyIOMode energyIOMode, Supplier<Integer> capacity, Supplier<Integer> usageRate) {
+        return new MultiEnergyNodeStorage(this, energyIOMode, capacity, usageRate, () -> node, this::onEnergyStorageChanged);
+    }
+
     @Override
     public @Nullable MachineEnergyStorage createExposedEnergyStorage() {
         return new MultiEnergyStorageWrapper(this, EnergyIOMode.Output, () -> tier);
@@ -88,7 +103,7 @@ public class SolarPanelBlockEntity extends PoweredMachineBlockEntity {
     }
 
     public boolean isGenerating() {
-        if (level == null || !this.level.canSeeSky(getBlockPos().above())) {
+        if (level == null || !canSeeSky()) {
             return false;
         }
         if (!this.level.dimensionType().hasSkyLight()) {
@@ -99,7 +114,6 @@ public class SolarPanelBlockEntity extends PoweredMachineBlockEntity {
     }
 
     public int getGenerationRate() {
-        int minuteInTicks = 20 * 60;
         if (level == null) {
             return 0;
         }
@@ -110,58 +124,41 @@ public class SolarPanelBlockEntity extends PoweredMachineBlockEntity {
             night = soulData.nighttime();
         }
 
-        int dayTime = (int) (level.getDayTime() % (minuteInTicks * 20));
-        float progress = 0;
-        if ((day && night) || (day && hasLiquidSunshine())) {
-            progress = 1;
-        } else if (day) {
-            if (dayTime > minuteInTicks * 9) {
-                return 0;
-            }
-
-            if (dayTime < minuteInTicks) {
-                return 0;
-            }
-
-            progress = dayTime > minuteInTicks * 5 ? 10 * minuteInTicks - dayTime : dayTime;
-            progress = (progress - minuteInTicks) / (4 * minuteInTicks);
-        } else if (night) {
-            if (dayTime < minuteInTicks * 11) {
-                return 0;
-            }
-
-            if (dayTime > minuteInTicks * 18) {
-                return 0;
-            }
-            progress = dayTime > minuteInTicks * 15 ? 20 * minuteInTicks - dayTime :  minuteInTicks * 15 - dayTime;
-            progress = (progress - minuteInTicks) / (4 * minuteInTicks);
-        }
-
-        double easing = easing(progress);
-
-        if (level.isRaining() && !level.isThundering()) {
-            easing -= 0.3f;
-        }
-
-        if (level.isThundering()) {
-            easing -= 0.7f;
-        }
+        // Liquid sunshine only matters to panels that generate during the day but not at night.
+        boolean hasLiquidSunshine = day && !night && hasLiquidSunshine();
+        return (int) (SolarGenerationFactor.get(level).get(day, night, hasLiquidSunshine) * tier.getProductionRate());
+    }
 
-        if (easing < 0) {
-            return 0;
+    private boolean canSeeSky() {
+        // Blocks placed high above the panel don't cause a neighbour update, so the cached value is also refreshed periodically.
+        if (canSeeSky == null || level.getGameTime() - skyCheckTime >= SKY_CHECK_INTERVAL) {
+            canSeeSky = level.canSeeSky(getBlockPos().above());
+            skyCheckTime = level.getGameTime();
         }
 
-        return (int) (easing * tier.getProductionRate());
+        return canSeeSky;
     }
 
     private boolean hasLiquidSunshine() {
-        for (Direction direction : Direction.values()) {
-            BlockState state = this.level.getBlockState(this.getBlockPos().relative(direction));
-            if (state.getFluidState().is(EIOTags.Fluids.SOLAR_PANEL_LIGHT)) {
-                return true;
+        if (hasLiquidSunshine == null) {
+            hasLiquidSunshine = false;
+            for (Direction direction : Direction.values()) {
+                BlockState state = this.level.getBlockState(this.getBlockPos().relative(direction));
+                if (state.getFluidState().is(EIOTags.Fluids.SOLAR_PANEL_LIGHT)) {
+                    hasLiquidSunshine = true;
+                    break;
+                }
             }
         }
-        return false;
+
+        return hasLiquidSunshine;
+    }
+
+    @Override
+    public void neighborChanged(BlockState state, LevelReader level, BlockPos pos, BlockPos neighbor) {
+        super.neighborChanged(state, level, pos, neighbor);
+        canSeeSky = null;
+        hasLiquidSunshine = null;
     }
 
     @Override
@@ -170,7 +167,7 @@ public class SolarPanelBlockEntity extends PoweredMachineBlockEntity {
             return true;
         }
 
-        for (GraphObject<Mergeable.Dummy> neighbour : node.getGraph().getNeighbours(node)) {
+        for (GraphObject<MultiEnergyGraphContext> neighbour : node.getGraph().getNeighbours(node)) {
             if (neighbour instanceof MultiEnergyNode neighbourMultiEnergyNode) {
                 if (neighbourMultiEnergyNode.pos.equals(worldPosition.relative(direction))) {
                     return false;
@@ -183,36 +180,22 @@ public class SolarPanelBlockEntity extends PoweredMachineBlockEntity {
 
     @Override
     public void setRemoved() {
-        if (node.getGraph() != null) {
-            node.getGraph().remove(node);
-        }
-
+        node.remove();
         super.setRemoved();
     }
 
     @Override
     public void onLoad() {
         super.onLoad();
-        if (node.getGraph() == null) {
-            Graph.integrate(node, List.of());
-        }
+        node.integrate();
 
         for (Direction direction: new Direction[] {Direction.NORTH, Direction.EAST, Direction.SOUTH, Direction.WEST}) {
             if (level.getBlockEntity(worldPosition.relative(direction)) instanceof SolarPanelBlockEntity panel && panel.tier == tier) {
-                Graph.connect(node, panel.node);
+                node.connect(panel.node);
             }
         }
     }
 
-    //Reference: EaseInOutQuad Function
-    private static double easing(float progress) {
-        if (progress > 0.5f) {
-            return 1 - Math.pow(-2*progress + 2, 2)/2;
-        }
-
-        return 2 * progress * progress;
-    }
-
     @Override
     public IOConfig getDefaultIOConfig() {
         return IOConfig.of(dir -> dir == Direction.UP ? IOMode.NONE : IOMode.PUSH);
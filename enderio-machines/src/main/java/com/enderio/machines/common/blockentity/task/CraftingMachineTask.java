@@ -46,6 +46,16 @@ public abstract class CraftingMachineTask<R extends MachineRecipe<T>, T extends
 
     private boolean isComplete;
 
+    // Direct changes to stacks and fluid changes don't move the inventory's modification count, so the recipe is also re-checked periodically.
+    private static final int REVALIDATE_INTERVAL = 20;
+
+    private long validatedModificationCount = -1;
+    private long lastValidationTime;
+
+    // While the outputs don't fit, they are only retried once the inventory changes.
+    private boolean isWaitingForOutputSpace;
+    private long outputWaitModificationCount;
+
     public CraftingMachineTask(@NotNull Level level, MachineInventory inventory, T recipeInput, @Nullable MultiSlotAccess outputSlots,
         @Nullable RecipeHolder<R> recipe) {
         this(level, inventory, null, recipeInput, outputSlots, recipe);
@@ -132,12 +142,14 @@ public abstract class CraftingMachineTask<R extends MachineRecipe<T>, T extends
         }
 
         // If we don't have a recipe match, complete the task and wait for a new one.
-        if (!recipe.value().matches(recipeInput, level)) {
-            inventory.updateMachineState(MachineState.EMPTY_INPUT, true);
-            isComplete = true;
-            return;
+        // The recipe only needs checking again once the inventory changed, or when the check is due anyway.
+        long modificationCount = inventory.getModificationCount();
+        boolean isCheckDue = level.getGameTime() - lastValidationTime >= REVALIDATE_INTERVAL;
+        if (modificationCount != validatedModificationCount || isCheckDue) {
+            if (!validateRecipe(modificationCount)) {
+                return;
+            }
         }
-        inventory.updateMachineState(MachineState.EMPTY_INPUT, false);
 
         // Try to consume as much energy as possible to finish the craft.
         if (progressMade < progressRequired) {
@@ -146,9 +158,22 @@ public abstract class CraftingMachineTask<R extends MachineRecipe<T>, T extends
 
         // If the recipe has been crafted, attempt to put it into storage
         if (progressMade >= progressRequired) {
+            if (isWaitingForOutputSpace && modificationCount == outputWaitModificationCount && !isCheckDue) {
+                return;
+            }
+
+            // Never complete a craft on a stale check.
+            if (validatedModificationCount != modificationCount || lastValidationTime != level.getGameTime()) {
+                if (!validateRecipe(modificationCount)) {
+                    return;
+                }
+            }
+
             // Attempt to complete the craft
             boolean placeOutputs = placeOutputs(outputs, false);
             inventory.updateMachineState(MachineState.FULL_OUTPUT, !placeOutputs);
+            isWaitingForOutputSpace = !placeOutputs;
+            outputWaitModificationCount = modificationCount;
             if (placeOutputs) {
                 // Take the inputs
                 consumeInputs(recipe.value());
@@ -159,6 +184,23 @@ public abstract class CraftingMachineTask<R extends MachineRecipe<T>, T extends
         }
     }
 
+    /**
+     * Check the recipe still matches, completing the task if it doesn't.
+     * @return whether the recipe matches.
+     */
+    private boolean validateRecipe(long modificationCount) {
+        if (!recipe.value().matches(recipeInput, level)) {
+            inventory.updateMachineState(MachineState.EMPTY_INPUT, true);
+            isComplete = true;
+            return false;
+        }
+
+        inventory.updateMachineState(MachineState.EMPTY_INPUT, false);
+        validatedModificationCount = modificationCount;
+        lastValidationTime = level.getGameTime();
+        return true;
+    }
+
     @Override
     public float getProgress() {
         if (recipe == null) {
@@ -1,13 +1,14 @@
 package com.enderio.machines.common.blockentity.task.host;
 
 import com.enderio.core.common.blockentity.EnderBlockEntity;
+import com.enderio.machines.common.blockentity.base.MachineBlockEntity;
 import com.enderio.machines.common.blockentity.task.CraftingMachineTask;
 import com.enderio.machines.common.recipe.MachineRecipe;
+import com.enderio.machines.common.utility.RecipeInputCache;
 import net.minecraft.core.HolderLookup;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.world.item.crafting.RecipeHolder;
 import net.minecraft.world.item.crafting.RecipeInput;
-import net.minecraft.world.item.crafting.RecipeType;
 import net.minecraft.world.level.Level;
 import org.jetbrains.annotations.Nullable;
 
@@ -20,17 +21,32 @@ public class CraftingMachineTaskHost<R extends MachineRecipe<T>, T extends Recip
         T createTask(Level level, C container, @Nullable RecipeHolder<R> recipe);
     }
 
-    private final RecipeType<R> recipeType;
+    /**
+     * Returned by {@link #getInputModificationCount()} when changes to the recipe input can't be tracked.
+     */
+    protected static final long UNTRACKED_INPUT = -1;
+
+    private final EnderBlockEntity blockEntity;
+    private final RecipeInputCache<T, R> recipeCache;
     private final CraftingMachineTaskFactory<? extends CraftingMachineTask<R, T>, R, T> taskFactory;
     private final Supplier<T> recipeInputSupplier;
 
+    // The recipe found by the last lookup, reused while the cache, its generation and the input are all unchanged.
+    @Nullable
+    private RecipeHolder<R> lastRecipe;
+    @Nullable
+    private RecipeInputCache<T, R> lastRecipeCache;
+    private int lastRecipeGeneration;
+    private long lastInputModificationCount = UNTRACKED_INPUT;
+
     /**
      * This should be constructed in the constructor of your block entity.
      */
-    public CraftingMachineTaskHost(EnderBlockEntity blockEntity, Supplier<Boolean> canAcceptNewTask, RecipeType<R> recipeType,
+    public CraftingMachineTaskHost(EnderBlockEntity blockEntity, Supplier<Boolean> canAcceptNewTask, RecipeInputCache<T, R> recipeCache,
         CraftingMachineTaskFactory<? extends CraftingMachineTask<R, T>, R, T> taskFactory, Supplier<T> recipeInputSupplier) {
         super(blockEntity, canAcceptNewTask);
-        this.recipeType = recipeType;
+        this.blockEntity = blockEntity;
+        this.recipeCache = recipeCache;
         this.taskFactory = taskFactory;
         this.recipeInputSupplier = recipeInputSupplier;
     }
@@ -80,11 +96,47 @@ public class CraftingMachineTaskHost<R extends MachineRecipe<T>, T extends Recip
         return recipeInputSupplier.get();
     }
 
+    /**
+     * @return the cache recipes are looked up in.
+     */
+    protected RecipeInputCache<T, R> getRecipeCache() {
+        return recipeCache;
+    }
+
+    /**
+     * @return a counter that changes whenever the recipe input may have changed, or {@link #UNTRACKED_INPUT}.
+     * Override this if the input comes from more than the machine inventory.
+     */
+    protected long getInputModificationCount() {
+        if (blockEntity instanceof MachineBlockEntity machineBlockEntity && machineBlockEntity.getInventory() != null) {
+            return machineBlockEntity.getInventory().getModificationCount();
+        }
+
+        return UNTRACKED_INPUT;
+    }
+
     protected Optional<RecipeHolder<R>> findRecipe() {
         Level level = getLevel();
         if (level == null) {
             return Optional.empty();
         }
-        return level.getRecipeManager().getRecipeFor(recipeType, recipeInputSupplier.get(), level);
+
+        RecipeInputCache<T, R> cache = getRecipeCache();
+        T input = recipeInputSupplier.get();
+        long inputModificationCount = getInputModificationCount();
+
+        // Machines usually keep crafting the same recipe. While the input hasn't changed, the search would find it again.
+        if (lastRecipe != null && lastRecipeCache == cache && lastRecipeGeneration == cache.getGeneration()
+            && inputModificationCount != UNTRACKED_INPUT && inputModificationCount == lastInputModificationCount
+            && lastRecipe.value().matches(input, level)) {
+            return Optional.of(lastRecipe);
+        }
+
+        Optional<RecipeHolder<R>> recipe = cache.getRecipeFor(input, level);
+        lastRecipe = recipe.orElse(null);
+        lastRecipeCache = cache;
+        lastRecipeGeneration = cache.getGeneration();
+        lastInputModificationCount = inputModificationCount;
+        return recipe;
     }
 }
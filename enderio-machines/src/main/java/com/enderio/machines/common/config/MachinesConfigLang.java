@@ -66,6 +66,11 @@ public class MachinesConfigLang {
         addTranslation("spawnType", "Spawn Type");
         addTranslation("maxSpawners", "Max Spawners");
 
+        // Auto Transfer
+        addTranslation("autoTransfer", "Auto Push/Pull");
+        addTranslation("itemsPerTransfer", "Items Per Transfer");
+        addTranslation("fluidPerTransfer", "Fluid Per Transfer (mB)");
+
         // -- Client --
 
         // Blocks
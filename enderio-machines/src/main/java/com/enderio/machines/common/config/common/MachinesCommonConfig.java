@@ -1,6 +1,7 @@
 package com.enderio.machines.common.config.common;
 
 import com.enderio.machines.common.blockentity.task.SpawnerMachineTask;
+import com.enderio.machines.common.io.TransferUtil;
 import net.neoforged.neoforge.common.ModConfigSpec;
 
 public class MachinesCommonConfig {
@@ -13,6 +14,8 @@ public class MachinesCommonConfig {
     public final ModConfigSpec.ConfigValue<Integer> MAX_SPAWNERS;
     public final ModConfigSpec.ConfigValue<SpawnerMachineTask.SpawnType> SPAWN_TYPE;
     public final ModConfigSpec.IntValue SPAWN_AMOUNT;
+    public final ModConfigSpec.IntValue ITEMS_PER_TRANSFER;
+    public final ModConfigSpec.IntValue FLUID_PER_TRANSFER;
 
     public MachinesCommonConfig(ModConfigSpec.Builder builder) {
         ENERGY = new EnergyConfig(builder);
@@ -30,5 +33,10 @@ public class MachinesCommonConfig {
             SPAWN_TYPE = builder.comment("The way a powered spawner spawns an entity. Possible options: 'ENTITY_TYPE' Spawns the same entity types as the soul vial. 'COPY' Spawns an exact copy of the mob in the soul vial").defineEnum("spawnType", SpawnerMachineTask.SpawnType.ENTITY_TYPE);
             MAX_SPAWNERS = builder.comment("The maximum amount of spawners before the spawners suffers a loss of efficiency").defineInRange("maxSpawners", 10, 0, Integer.MAX_VALUE);
         builder.pop();
+
+        builder.push("autoTransfer");
+            ITEMS_PER_TRANSFER = builder.comment("The maximum amount of items a machine pushes or pulls through each side every 5 ticks. Whole stacks are moved when this allows it, set to 1 to move single items.").defineInRange("itemsPerTransfer", 16, 1, Integer.MAX_VALUE);
+            FLUID_PER_TRANSFER = builder.comment("The maximum amount of fluid in mB a machine pushes or pulls for each tank through each side every 5 ticks.").defineInRange("fluidPerTransfer", TransferUtil.DEFAULT_FLUID_DRAIN, 1, Integer.MAX_VALUE);
+        builder.pop();
     }
 }
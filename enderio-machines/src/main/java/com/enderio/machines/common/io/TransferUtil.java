@@ -1,6 +1,5 @@
 package com.enderio.machines.common.io;
 
-import com.enderio.base.api.io.IOMode;
 import net.minecraft.world.item.ItemStack;
 import net.neoforged.neoforge.fluids.FluidStack;
 import net.neoforged.neoforge.fluids.FluidUtil;
@@ -11,33 +10,58 @@ public class TransferUtil {
 
     // region Items
 
-    public static void distributeItems(IOMode mode, IItemHandler selfItemHandler, IItemHandler otherItemHandler) {
-        distributeItems(mode.canPush(), mode.canPull(), selfItemHandler, otherItemHandler);
-    }
-
-    public static void distributeItems(boolean canPush, boolean canPull, IItemHandler selfItemHandler, IItemHandler otherItemHandler) {
-        if (canPush) {
-            moveItems(selfItemHandler, otherItemHandler);
+    /**
+     * Returned by the batched transfers when the source had nothing to give.
+     */
+    public static final int NOTHING_TO_MOVE = -1;
+
+    /**
+     * Returned by the batched transfers when the source had something to give but the target accepted none of it.
+     */
+    public static final int TARGET_FULL = -2;
+
+    /**
+     * Move up to {@code maxItems} items, as whole stacks where the target accepts them.
+     * @param targetHint the target slot to try first, usually the one returned by the previous call.
+     * @return the target slot that last accepted items, or {@link #NOTHING_TO_MOVE} or {@link #TARGET_FULL}.
+     */
+    public static int moveItemStacks(IItemHandler from, IItemHandler to, int maxItems, int targetHint) {
+        int targetSlots = to.getSlots();
+        if (targetSlots == 0) {
+            return TARGET_FULL;
         }
 
-        if (canPull) {
-            moveItems(otherItemHandler, selfItemHandler);
-        }
-    }
+        int result = NOTHING_TO_MOVE;
+        int target = targetHint >= 0 && targetHint < targetSlots ? targetHint : 0;
+        int remaining = maxItems;
+
+        for (int i = 0; i < from.getSlots() && remaining > 0; i++) {
+            ItemStack extracted = from.extractItem(i, remaining, true);
+            if (extracted.isEmpty()) {
+                continue;
+            }
 
-    private static void moveItems(IItemHandler from, IItemHandler to) {
-        for (int i = 0; i < from.getSlots(); i++) {
-            ItemStack extracted = from.extractItem(i, 1, true);
-            if (!extracted.isEmpty()) {
-                for (int j = 0; j < to.getSlots(); j++) {
-                    ItemStack inserted = to.insertItem(j, extracted, false);
-                    if (inserted.isEmpty()) {
-                        from.extractItem(i, 1, false);
-                        return;
-                    }
+            if (result == NOTHING_TO_MOVE) {
+                result = TARGET_FULL;
+            }
+
+            // Start at the slot that accepted last, so a mostly full target doesn't get scanned from the top every time.
+            int start = target;
+            for (int j = 0; j < targetSlots && !extracted.isEmpty(); j++) {
+                int slot = (start + j) % targetSlots;
+                ItemStack leftover = to.insertItem(slot, extracted, false);
+                int inserted = extracted.getCount() - leftover.getCount();
+                if (inserted > 0) {
+                    from.extractItem(i, inserted, false);
+                    remaining -= inserted;
+                    extracted = leftover;
+                    target = slot;
+                    result = slot;
                 }
             }
         }
+
+        return result;
     }
 
     // endregion
@@ -46,35 +70,34 @@ public class TransferUtil {
 
     public static final int DEFAULT_FLUID_DRAIN = 100;
 
-    public static void distributeFluids(IOMode mode, IFluidHandler selfItemHandler, IFluidHandler otherItemHandler) {
-        distributeFluids(mode.canPush(), mode.canPull(), selfItemHandler, otherItemHandler, DEFAULT_FLUID_DRAIN);
-    }
+    /**
+     * Push up to {@code maxDrain} of the fluid in each tank of {@code from}.
+     * @return the amount filled, or {@link #NOTHING_TO_MOVE} or {@link #TARGET_FULL}.
+     */
+    public static int pushFluids(IFluidHandler from, IFluidHandler to, int maxDrain) {
+        boolean hasFluid = false;
+        int filled = 0;
+        for (int i = 0; i < from.getTanks(); i++) {
+            FluidStack fluid = from.getFluidInTank(i);
+            if (fluid.isEmpty()) {
+                continue;
+            }
 
-    public static void distributeFluids(IOMode mode, IFluidHandler selfItemHandler, IFluidHandler otherItemHandler, int maxDrain) {
-        distributeFluids(mode.canPush(), mode.canPull(), selfItemHandler, otherItemHandler, maxDrain);
-    }
+            hasFluid = true;
+            filled += FluidUtil.tryFluidTransfer(to, from, fluid.copyWithAmount(maxDrain), true).getAmount();
+        }
 
-    public static void distributeFluids(boolean canPush, boolean canPull, IFluidHandler selfItemHandler, IFluidHandler otherItemHandler) {
-        distributeFluids(canPush, canPull, selfItemHandler, otherItemHandler, DEFAULT_FLUID_DRAIN);
+        if (filled > 0) {
+            return filled;
+        }
+
+        return hasFluid ? TARGET_FULL : NOTHING_TO_MOVE;
     }
 
-    public static void distributeFluids(boolean canPush, boolean canPull, IFluidHandler selfItemHandler, IFluidHandler otherItemHandler, int maxDrain) {
+    public static void pullFluids(IFluidHandler self, IFluidHandler other, int maxDrain) {
         // TODO: Do we want to imitate old behaviour where if we have no fluid, we pull by default?
-
-        if (canPush) {
-            int filled = 0;
-            for (int i = 0; i < selfItemHandler.getTanks(); i++) {
-                filled += FluidUtil.tryFluidTransfer(otherItemHandler, selfItemHandler, new FluidStack(selfItemHandler.getFluidInTank(i).getFluid(), maxDrain), true).getAmount();
-            }
-            if (filled > 0) {
-                return;
-            }
-        }
-
-        if (canPull) {
-            for (int i = 0; i < selfItemHandler.getTanks(); i++) {
-                FluidUtil.tryFluidTransfer(selfItemHandler, otherItemHandler, new FluidStack(selfItemHandler.getFluidInTank(i).getFluid(), maxDrain), true);
-            }
+        for (int i = 0; i < self.getTanks(); i++) {
+            FluidUtil.tryFluidTransfer(self, other, new FluidStack(self.getFluidInTank(i).getFluid(), maxDrain), true);
         }
     }
 
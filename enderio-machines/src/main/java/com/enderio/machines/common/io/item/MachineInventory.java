@@ -3,6 +3,8 @@ package com.enderio.machines.common.io.item;
 import com.enderio.base.api.io.IOConfigurable;
 import com.enderio.machines.common.blockentity.MachineState;
 import net.minecraft.core.Direction;
+import net.minecraft.core.HolderLookup;
+import net.minecraft.nbt.CompoundTag;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.item.component.ItemContainerContents;
 import net.neoforged.neoforge.items.IItemHandler;
@@ -19,6 +21,7 @@ public class MachineInventory extends ItemStackHandler {
     private final IOConfigurable ioConfigurable;
     private final MachineInventoryLayout layout;
     private IntConsumer changeListener = i -> {};
+    private long modificationCount;
 
     /**
      * Create a new machine inventory.
@@ -34,6 +37,14 @@ public class MachineInventory extends ItemStackHandler {
         changeListener = changeListener.andThen(callback);
     }
 
+    /**
+     * @return a counter that changes whenever the inventory is modified through this handler.
+     * Stacks taken from {@link #getStackInSlot} and changed in place are not tracked.
+     */
+    public long getModificationCount() {
+        return modificationCount;
+    }
+
     /**
      * Get the inventory layout.
      */
@@ -68,6 +79,10 @@ public class MachineInventory extends ItemStackHandler {
     public ItemStack insertItem(int slot, ItemStack stack, boolean simulate) {
         boolean wasEmpty = !simulate && getStackInSlot(slot).isEmpty();
         ItemStack itemStack = super.insertItem(slot, stack, simulate);
+        if (!simulate && itemStack.getCount() != stack.getCount()) {
+            modificationCount++;
+        }
+
         if (wasEmpty && itemStack.getCount() != stack.getCount()) {
             changeListener.accept(slot);
         }
@@ -78,6 +93,10 @@ public class MachineInventory extends ItemStackHandler {
     @Override
     public ItemStack extractItem(int slot, int amount, boolean simulate) {
         ItemStack itemStack = super.extractItem(slot, amount, simulate);
+        if (!itemStack.isEmpty() && !simulate) {
+            modificationCount++;
+        }
+
         if (!itemStack.isEmpty() && !simulate && getStackInSlot(slot).isEmpty()) {
             changeListener.accept(slot);
         }
@@ -89,6 +108,7 @@ public class MachineInventory extends ItemStackHandler {
     public void setStackInSlot(int slot, ItemStack stack) {
         boolean changed = stack.getItem() != getStackInSlot(slot).getItem();
         super.setStackInSlot(slot, stack);
+        modificationCount++;
         if (changed) {
             this.changeListener.accept(slot);
         }
@@ -96,12 +116,19 @@ public class MachineInventory extends ItemStackHandler {
 
     public void copyFromItem(ItemContainerContents contents) {
         contents.copyInto(this.stacks);
+        modificationCount++;
         for (int i = 0; i < getSlots(); i++) {
             onContentsChanged(i);
             this.changeListener.accept(i);
         }
     }
 
+    @Override
+    public void deserializeNBT(HolderLookup.Provider lookupProvider, CompoundTag nbt) {
+        super.deserializeNBT(lookupProvider, nbt);
+        modificationCount++;
+    }
+
     public ItemContainerContents toItemContents() {
         return ItemContainerContents.fromItems(this.stacks);
     }
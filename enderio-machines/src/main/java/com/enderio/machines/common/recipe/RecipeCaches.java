@@ -1,7 +1,9 @@
 package com.enderio.machines.common.recipe;
 
+import com.enderio.core.common.recipes.RecipeIndexRebuilder;
 import com.enderio.machines.EnderIOMachines;
 import com.enderio.machines.common.blockentity.AlloySmelterMode;
+import com.enderio.machines.common.blockentity.SlicerRecipeManager;
 import com.enderio.machines.common.init.MachineRecipes;
 import com.enderio.machines.common.utility.RecipeInputCache;
 import net.minecraft.world.item.crafting.RecipeType;
@@ -11,6 +13,7 @@ import net.neoforged.bus.api.SubscribeEvent;
 import net.neoforged.fml.common.EventBusSubscriber;
 import net.neoforged.neoforge.client.event.RecipesUpdatedEvent;
 import net.neoforged.neoforge.event.AddReloadListenerEvent;
+import net.neoforged.neoforge.event.TagsUpdatedEvent;
 
 
 @EventBusSubscriber(modid = EnderIOMachines.MODULE_MOD_ID)
@@ -39,6 +42,22 @@ public class RecipeCaches {
     public static final RecipeInputCache<FermentingRecipe.Input, FermentingRecipe> FERMENTING = new RecipeInputCache<>(
         MachineRecipes.VAT_FERMENTING.type());
 
+    public static final RecipeInputCache<SlicingRecipe.Input, SlicingRecipe> SLICING
+        = new RecipeInputCache<>(MachineRecipes.SLICING.type());
+
+    // Every index is built off the server thread once recipes and tags have loaded, and swapped in together.
+    private static final RecipeIndexRebuilder INDEXES = new RecipeIndexRebuilder()
+        .add(ALL_ALLOY_SMELTING::buildIndex, ALL_ALLOY_SMELTING::publishIndex)
+        .add(ALLOY_SMELTING_ONLY_ALLOY::buildIndex, ALLOY_SMELTING_ONLY_ALLOY::publishIndex)
+        .add(ALLOY_SMELTING_ONLY_SMELTING::buildIndex, ALLOY_SMELTING_ONLY_SMELTING::publishIndex)
+        .add(SMELTING::buildIndex, SMELTING::publishIndex)
+        .add(PAINTING::buildIndex, PAINTING::publishIndex)
+        .add(SAG_MILLING::buildIndex, SAG_MILLING::publishIndex)
+        .add(SOUL_BINDING::buildIndex, SOUL_BINDING::publishIndex)
+        .add(FERMENTING::buildIndex, FERMENTING::publishIndex)
+        .add(SLICING::buildIndex, SLICING::publishIndex)
+        .add(SlicerRecipeManager::buildIndex, SlicerRecipeManager::publishIndex);
+
     public static RecipeInputCache<AlloySmeltingRecipe.Input, AlloySmeltingRecipe> getAlloySmeltingCache(AlloySmelterMode mode) {
         if (mode.canSmelt() && mode.canAlloy()) {
             return ALL_ALLOY_SMELTING;
@@ -51,25 +70,16 @@ public class RecipeCaches {
 
     @SubscribeEvent
     public static void registerReloadListener(AddReloadListenerEvent event) {
-        ALL_ALLOY_SMELTING.markCacheDirty();
-        ALLOY_SMELTING_ONLY_ALLOY.markCacheDirty();
-        ALLOY_SMELTING_ONLY_SMELTING.markCacheDirty();
-        SMELTING.markCacheDirty();
-        PAINTING.markCacheDirty();
-        SAG_MILLING.markCacheDirty();
-        SOUL_BINDING.markCacheDirty();
-        FERMENTING.markCacheDirty();
+        INDEXES.onAddReloadListeners(event);
+    }
+
+    @SubscribeEvent
+    public static void onTagsUpdated(TagsUpdatedEvent event) {
+        INDEXES.onTagsUpdated(event);
     }
 
     @SubscribeEvent
     public static void onRecipesUpdated(RecipesUpdatedEvent event) {
-        ALL_ALLOY_SMELTING.rebuildCache(event.getRecipeManager());
-        ALLOY_SMELTING_ONLY_ALLOY.rebuildCache(event.getRecipeManager());
-        ALLOY_SMELTING_ONLY_SMELTING.rebuildCache(event.getRecipeManager());
-        SMELTING.rebuildCache(event.getRecipeManager());
-        PAINTING.rebuildCache(event.getRecipeManager());
-        SAG_MILLING.rebuildCache(event.getRecipeManager());
-        SOUL_BINDING.rebuildCache(event.getRecipeManager());
-        FERMENTING.rebuildCache(event.getRecipeManager());
+        INDEXES.rebuild(event.getRecipeManager());
     }
 }
@@ -34,6 +34,7 @@ import net.minecraft.util.profiling.ProfilerFiller;
 import net.neoforged.neoforge.common.NeoForge;
 import net.neoforged.neoforge.event.OnDatapackSyncEvent;
 import net.neoforged.neoforge.network.PacketDistributor;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -50,7 +51,10 @@ import java.util.function.Function;
  */
 public class SoulDataReloadListener<T extends SoulData> extends SimpleJsonResourceReloadListener {
     private static final Gson GSON = new Gson();
-    public Map<ResourceLocation,T> map = new HashMap<>();
+    public volatile Map<ResourceLocation,T> map = new HashMap<>();
+    // Decoded off the server thread while preparing, and swapped in when applying.
+    @Nullable
+    private Map<ResourceLocation, T> preparedMap;
     private final Codec<T> codec;
     private final String folderName;
     private static final Map<String, SoulDataReloadListener<? extends SoulData>> LOADED_SOUL_DATA = new HashMap<>();
@@ -82,18 +86,32 @@ public class SoulDataReloadListener<T extends SoulData> extends SimpleJsonResour
         this(GSON, folder, codec);
     }
 
+    @Override
+    protected Map<ResourceLocation, JsonElement> prepare(ResourceManager pResourceManager, ProfilerFiller pProfiler) {
+        Map<ResourceLocation, JsonElement> jsons = super.prepare(pResourceManager, pProfiler);
+        preparedMap = decode(jsons);
+        return jsons;
+    }
+
     @Override
     protected void apply(Map<ResourceLocation, JsonElement> pObject, ResourceManager pResourceManager, ProfilerFiller pProfiler) {
+        Map<ResourceLocation, T> newMap = preparedMap != null ? preparedMap : decode(pObject);
+        preparedMap = null;
+
+        this.map = newMap;
+        EnderIOBase.LOGGER.info("Data loader for {} loaded {} jsons", this.folderName, this.map.size());
+    }
+
+    private Map<ResourceLocation, T> decode(Map<ResourceLocation, JsonElement> jsons) {
         Map<ResourceLocation, T> newMap = new HashMap<>();
 
-        for (Map.Entry<ResourceLocation, JsonElement> element: pObject.entrySet()) {
+        for (Map.Entry<ResourceLocation, JsonElement> element: jsons.entrySet()) {
             codec.decode(JsonOps.INSTANCE, element.getValue())
                 .ifSuccess(result -> newMap.put(result.getFirst().getKey(), result.getFirst())) //store the key from the ISoulData interface. Makes the look faster.
                 .ifError(partial -> EnderIOBase.LOGGER.error("Failed to parse data json for {} due to: {}", element.getKey(), partial.message()));
         }
 
-        this.map = newMap;
-        EnderIOBase.LOGGER.info("Data loader for {} loaded {} jsons", this.folderName, this.map.size());
+        return newMap;
     }
 
     /**
@@ -126,10 +144,7 @@ public class SoulDataReloadListener<T extends SoulData> extends SimpleJsonResour
      * Returns an optional ISoulData implementation.
      */
     public Optional<T> matches(ResourceLocation entitytype) {
-        if (map.containsKey(entitytype)) {
-            return Optional.of(map.get(entitytype));
-        }
-        return Optional.empty();
+        return Optional.ofNullable(map.get(entitytype));
     }
 
     public static SoulDataReloadListener<? extends SoulData> fromString(String name) {
@@ -10,26 +10,29 @@ import net.minecraft.world.item.crafting.RecipeHolder;
 import net.minecraft.world.item.crafting.RecipeInput;
 import net.minecraft.world.item.crafting.RecipeManager;
 import net.minecraft.world.item.crafting.RecipeType;
-import net.neoforged.fml.util.thread.EffectiveSide;
-import net.neoforged.neoforge.server.ServerLifecycleHooks;
+import net.minecraft.world.level.Level;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Set;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
-import java.util.stream.Collectors;
 
 public class RecipeInputCache<T extends RecipeInput, R extends Recipe<T>> {
     private final Supplier<RecipeType<R>> recipeType;
     private final Predicate<R> filter;
 
-    private final HashMap<Item, HashSet<RecipeHolder<R>>> itemToRecipesCache;
-    private final HashMap<RecipeHolder<R>, List<Ingredient>> recipeToIngredientCache;
-    private boolean isDirty;
+    // Replaced as a whole when recipes reload, so lookups on any thread always see a complete index.
+    private volatile Index<R> index = Index.empty();
+    private final AtomicInteger generationCounter = new AtomicInteger();
+
+    private long hitCount;
+    private long missCount;
 
     public RecipeInputCache(Supplier<RecipeType<R>> recipeType) {
         this(recipeType, recipe -> true);
@@ -38,8 +41,43 @@ public class RecipeInputCache<T extends RecipeInput, R extends Recipe<T>> {
     public RecipeInputCache(Supplier<RecipeType<R>> recipeType, Predicate<R> filter) {
         this.recipeType = recipeType;
         this.filter = filter;
-        this.itemToRecipesCache = new HashMap<>();
-        this.recipeToIngredientCache = new HashMap<>();
+    }
+
+    /**
+     * Find the first recipe that matches the input.
+     * Only recipes using one of the input's items, or using no items at all, are tested.
+     */
+    public Optional<RecipeHolder<R>> getRecipeFor(T input, Level level) {
+        Index<R> index = this.index;
+
+        BitSet candidates = (BitSet) index.unindexedRecipes().clone();
+        for (int i = 0; i < input.size(); i++) {
+            ItemStack stack = input.getItem(i);
+            if (stack.isEmpty()) {
+                continue;
+            }
+
+            var matches = index.itemToRecipes().get(stack.getItem());
+            if (matches != null) {
+                candidates.or(matches);
+            }
+        }
+
+        for (int i = candidates.nextSetBit(0); i >= 0; i = candidates.nextSetBit(i + 1)) {
+            RecipeHolder<R> recipe = index.recipes().get(i);
+            if (recipe.value().matches(input, level)) {
+                return Optional.of(recipe);
+            }
+        }
+
+        return Optional.empty();
+    }
+
+    /**
+     * @return a counter that changes every time the cache is rebuilt, after which previously returned recipes may be stale.
+     */
+    public int getGeneration() {
+        return index.generation();
     }
 
     /**
@@ -65,89 +103,161 @@ public class RecipeInputCache<T extends RecipeInput, R extends Recipe<T>> {
     }
 
     public boolean hasRecipe(List<ItemStack> inputs) {
-        checkCacheRebuild();
+        Index<R> index = this.index;
 
-        Set<RecipeHolder<R>> possibleMatches = null;
+        if (inputs.isEmpty()) {
+            return true;
+        }
 
+        // Narrow down to the recipes that use every input item.
+        BitSet possibleMatches = null;
         for (var input : inputs) {
-            var matches = itemToRecipesCache.get(input.getItem());
+            var matches = index.itemToRecipes().get(input.getItem());
             if (matches == null) {
+                missCount++;
                 return false;
             }
 
             if (possibleMatches == null) {
-                possibleMatches = matches;
+                possibleMatches = (BitSet) matches.clone();
             } else {
-                possibleMatches = possibleMatches.stream()
-                    .filter(matches::contains)
-                    .collect(Collectors.toSet());
+                possibleMatches.and(matches);
             }
 
             if (possibleMatches.isEmpty()) {
+                missCount++;
                 return false;
             }
+        }
+
+        for (int i = possibleMatches.nextSetBit(0); i >= 0; i = possibleMatches.nextSetBit(i + 1)) {
+            if (usesAllInputs(index.recipeIngredients().get(i), inputs)) {
+                hitCount++;
+                return true;
+            }
+        }
+
+        missCount++;
+        return false;
+    }
+
+    /**
+     * @return how many {@link #hasRecipe} calls found a recipe.
+     */
+    public long getHitCount() {
+        return hitCount;
+    }
+
+    /**
+     * @return how many {@link #hasRecipe} calls found no recipe.
+     */
+    public long getMissCount() {
+        return missCount;
+    }
 
-            boolean anyMatches = false;
-            for (var match : possibleMatches) {
-                var ingredients = recipeToIngredientCache.get(match);
-                var checked = new boolean[inputs.size()];
-                int matchCount = 0;
-
-                for (Ingredient ingredient : ingredients) {
-                    for (int i = 0; i < inputs.size(); i++) {
-                        if (checked[i]) {
-                            continue;
-                        }
-
-                        if (ingredient.test(inputs.get(i))) {
-                            checked[i] = true;
-                            matchCount++;
-                            break;
-                        }
-                    }
+    /**
+     * @return whether every input can be given to a different ingredient of the recipe.
+     */
+    private static boolean usesAllInputs(List<Ingredient> ingredients, List<ItemStack> inputs) {
+        // Machines have a handful of input slots, so a mask is enough to track which inputs are taken.
+        if (inputs.size() > Long.SIZE) {
+            return usesAllInputs(ingredients, inputs, new BitSet(inputs.size()));
+        }
+
+        long checked = 0;
+        int matchCount = 0;
+
+        for (Ingredient ingredient : ingredients) {
+            for (int i = 0; i < inputs.size(); i++) {
+                if ((checked & (1L << i)) != 0) {
+                    continue;
                 }
 
-                if (matchCount >= inputs.size()) {
-                    anyMatches = true;
+                if (ingredient.test(inputs.get(i))) {
+                    checked |= 1L << i;
+                    matchCount++;
+                    break;
                 }
             }
+        }
 
-            if (!anyMatches) {
-                return false;
+        return matchCount >= inputs.size();
+    }
+
+    private static boolean usesAllInputs(List<Ingredient> ingredients, List<ItemStack> inputs, BitSet checked) {
+        int matchCount = 0;
+
+        for (Ingredient ingredient : ingredients) {
+            for (int i = checked.nextClearBit(0); i < inputs.size(); i = checked.nextClearBit(i + 1)) {
+                if (ingredient.test(inputs.get(i))) {
+                    checked.set(i);
+                    matchCount++;
+                    break;
+                }
             }
         }
 
-        return true;
+        return matchCount >= inputs.size();
     }
 
-    public void markCacheDirty() {
-        isDirty = true;
-    }
+    /**
+     * Build a new index from the recipe manager. This doesn't touch the cache, so it is safe to call off the server thread.
+     * Tag ingredients are resolved while building, so only call this once the tags loaded alongside the recipes are bound.
+     */
+    public Index<R> buildIndex(RecipeManager recipeManager) {
+        List<RecipeHolder<R>> recipes = new ArrayList<>();
+        List<List<Ingredient>> recipeIngredients = new ArrayList<>();
+        Map<Item, BitSet> itemToRecipes = new HashMap<>();
+        BitSet unindexedRecipes = new BitSet();
+
+        for (RecipeHolder<R> recipe : recipeManager.getAllRecipesFor(recipeType.get())) {
+            if (!filter.test(recipe.value())) {
+                continue;
+            }
 
-    private void checkCacheRebuild() {
-        if (isDirty && EffectiveSide.get().isServer()) {
-            rebuildCache(ServerLifecycleHooks.getCurrentServer().getRecipeManager());
-            isDirty = false;
+            var items = recipe.value().getIngredients().stream()
+                .flatMap(ingredient -> Arrays.stream(ingredient.getItems()))
+                .map(ItemStack::getItem)
+                .toList();
+
+            int id = recipes.size();
+            recipes.add(recipe);
+            recipeIngredients.add(List.copyOf(recipe.value().getIngredients()));
+            if (items.isEmpty()) {
+                unindexedRecipes.set(id);
+            }
+
+            for (Item item : items) {
+                itemToRecipes.computeIfAbsent(item, i -> new BitSet())
+                    .set(id);
+            }
         }
+
+        return new Index<>(List.copyOf(recipes), List.copyOf(recipeIngredients), Map.copyOf(itemToRecipes), unindexedRecipes,
+            generationCounter.incrementAndGet());
+    }
+
+    /**
+     * Swap in an index made by {@link #buildIndex}.
+     */
+    public void publishIndex(Index<R> index) {
+        this.index = index;
     }
 
     public void rebuildCache(RecipeManager recipeManager) {
-        itemToRecipesCache.clear();
-        recipeToIngredientCache.clear();
-        recipeManager.getAllRecipesFor(recipeType.get())
-            .stream()
-            .filter(recipeHolder -> filter.test(recipeHolder.value()))
-            .forEach(recipe -> {
-                var items = recipe.value().getIngredients().stream()
-                    .flatMap(ingredient -> Arrays.stream(ingredient.getItems()))
-                    .map(ItemStack::getItem)
-                    .toList();
-
-                recipeToIngredientCache.put(recipe, recipe.value().getIngredients());
-                for (Item item : items) {
-                    itemToRecipesCache.computeIfAbsent(item, i -> new HashSet<>())
-                        .add(recipe);
-                }
-            });
+        publishIndex(buildIndex(recipeManager));
+    }
+
+    /**
+     * Recipes are identified by their position in recipe manager order, so lookups pick the same recipe the recipe manager would.
+     * None of these are modified once the index is built.
+     * @param unindexedRecipes recipes without any item ingredients, which can't be found through the item index.
+     */
+    public record Index<R extends Recipe<?>>(List<RecipeHolder<R>> recipes, List<List<Ingredient>> recipeIngredients,
+        Map<Item, BitSet> itemToRecipes, BitSet unindexedRecipes, int generation) {
+
+        private static <R extends Recipe<?>> Index<R> empty() {
+            return new Index<>(List.of(), List.of(), Map.of(), new BitSet(), 0);
+        }
     }
 }